@@ -0,0 +1,63 @@
+package com.merakianalytics.clinic.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.merakianalytics.clinic.Application;
+import com.merakianalytics.clinic.Clinic;
+
+/**
+ * Compares running a compiled {@link com.merakianalytics.clinic.Application} against building the application from scratch for every run
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApplicationBenchmark {
+    private Application application;
+    private String[] args;
+
+    @Param({"add", "multiply", "repeat"})
+    public String command;
+
+    @Benchmark
+    public int compiled() {
+        return application.run(args);
+    }
+
+    @Benchmark
+    public int perCall() {
+        return Clinic.cli(Calculator.class).args(args).run();
+    }
+
+    @Setup
+    public void setup() {
+        application = Clinic.cli(Calculator.class).compile();
+        switch(command) {
+            case "add":
+                args = new String[] {"add", "-x", "1", "-y", "2"};
+                break;
+            case "multiply":
+                args = new String[] {"multiply", "--values", "1", "2", "3", "4", "5", "6", "7", "8"};
+                break;
+            case "repeat":
+                args = new String[] {"repeat", "--message", "'hello'", "--times", "3", "--upper"};
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown command " + command + "!");
+        }
+    }
+}
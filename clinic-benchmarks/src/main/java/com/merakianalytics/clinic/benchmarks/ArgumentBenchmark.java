@@ -0,0 +1,78 @@
+package com.merakianalytics.clinic.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.merakianalytics.clinic.Application;
+import com.merakianalytics.clinic.Clinic;
+import com.merakianalytics.clinic.annotations.Command;
+import com.merakianalytics.clinic.annotations.Option;
+
+/**
+ * Measures executing a command through an application with a single multi-argument option given a large number of arguments, with and without the
+ * registry generated by clinic-processor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArgumentBenchmark {
+    public static abstract class Commands {
+        @Command
+        public static int ints(@Option final int[] values) {
+            return values.length;
+        }
+
+        @Command
+        public static int list(@Option(type = Integer.class) final List<Integer> values) {
+            return values.size();
+        }
+
+        @Command
+        public static int strings(@Option final String[] values) {
+            return values.length;
+        }
+    }
+
+    private Application application;
+    private String[] args;
+
+    @Param({"ints", "list", "strings"})
+    public String command;
+
+    @Param({"true", "false"})
+    public boolean registry;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Benchmark
+    public Object execute() {
+        return application.execute(args);
+    }
+
+    @Setup
+    public void setup() {
+        application = Clinic.cli(Commands.class).registry(registry).compile();
+        args = new String[size + 2];
+        args[0] = command;
+        args[1] = "--values";
+        for(int i = 0; i < size; i++) {
+            args[i + 2] = Integer.toString(i);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.merakianalytics.clinic.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.merakianalytics.clinic.Clinic;
+import com.merakianalytics.clinic.RunResult;
+
+/**
+ * Measures replaying a batch of recorded invocations of a cli class with many commands: running each one on its own, which builds the application
+ * every time, against running them all through one application on a thread pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+    private static final int COMMANDS = 500;
+    private static final int INVOCATIONS = 10000;
+
+    private Class<?> clazz;
+    private final List<String[]> invocations = new ArrayList<>(INVOCATIONS);
+    private ExecutorService service;
+
+    @Benchmark
+    public void runAll(final Blackhole blackhole) {
+        Clinic.cli(clazz).executableName("generated").runAll(invocations, service, 1024, (final RunResult result) -> {
+            blackhole.consume(result.getExitCode());
+        });
+    }
+
+    @Benchmark
+    public void runEach(final Blackhole blackhole) {
+        for(final String[] args : invocations) {
+            blackhole.consume(Clinic.cli(clazz).executableName("generated").args(args).run());
+        }
+    }
+
+    @Setup
+    public void setup() {
+        clazz = Fixtures.commands(COMMANDS);
+        for(int i = 0; i < INVOCATIONS; i++) {
+            invocations.add(new String[] {"command" + i % COMMANDS, "--value", Integer.toString(i)});
+        }
+        service = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.shutdown();
+    }
+}
@@ -0,0 +1,49 @@
+package com.merakianalytics.clinic.benchmarks;
+
+import com.merakianalytics.clinic.annotations.Command;
+import com.merakianalytics.clinic.annotations.Option;
+
+public abstract class Calculator {
+    @Command(help = "Adds two numbers")
+    public static int add(@Option(required = true) final int x, @Option(required = true) final int y) {
+        return x + y;
+    }
+
+    @Command(help = "Divides two numbers")
+    public static double divide(@Option(required = true) final double x, @Option(required = true) final double y) {
+        return x / y;
+    }
+
+    @Command(help = "Finds the largest of a bunch of numbers")
+    public static long max(@Option(help = "the numbers to compare", required = true) final long[] values) {
+        long max = Long.MIN_VALUE;
+        for(final long value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    @Command(help = "Multiplies a bunch of numbers")
+    public static int multiply(@Option(help = "the numbers to multiply together", required = true) final int[] values) {
+        int product = 1;
+        for(final int value : values) {
+            product *= value;
+        }
+        return product;
+    }
+
+    @Command(help = "Repeats a message")
+    public static String repeat(@Option(help = "the message to repeat", defaultString = "Hello, world!") final String message,
+        @Option(help = "the number of times to repeat the message", defaultInt = 1) final int times, @Option(flag = true) final boolean upper) {
+        final StringBuilder builder = new StringBuilder();
+        for(int i = 0; i < times; i++) {
+            builder.append(upper ? message.toUpperCase() : message);
+        }
+        return builder.toString();
+    }
+
+    @Command(help = "Subtracts two numbers")
+    public static int subtract(@Option(required = true) final int x, @Option(required = true) final int y) {
+        return x - y;
+    }
+}
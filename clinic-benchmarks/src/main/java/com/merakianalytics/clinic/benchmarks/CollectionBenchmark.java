@@ -0,0 +1,75 @@
+package com.merakianalytics.clinic.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.merakianalytics.clinic.Option;
+
+/**
+ * Measures converting many arguments for Collection-typed options
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollectionBenchmark {
+    public static void options(@com.merakianalytics.clinic.annotations.Option(type = Integer.class) final List<Integer> list,
+        @com.merakianalytics.clinic.annotations.Option(type = Integer.class) final Set<Integer> set,
+        @com.merakianalytics.clinic.annotations.Option(type = Integer.class) final SortedSet<Integer> sortedSet) {
+        return;
+    }
+
+    private Option option;
+    private String[] values;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    @Param({"list", "set", "sortedSet"})
+    public String type;
+
+    @Benchmark
+    public Object convert() {
+        return option.getValue(values);
+    }
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        final Method method = CollectionBenchmark.class.getMethod("options", List.class, Set.class, SortedSet.class);
+        switch(type) {
+            case "list":
+                option = Option.get(method, method.getParameters()[0]);
+                break;
+            case "set":
+                option = Option.get(method, method.getParameters()[1]);
+                break;
+            case "sortedSet":
+                option = Option.get(method, method.getParameters()[2]);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown type " + type + "!");
+        }
+
+        values = new String[size];
+        for(int i = 0; i < size; i++) {
+            values[i] = Integer.toString((i * 7919) % size);
+        }
+    }
+}
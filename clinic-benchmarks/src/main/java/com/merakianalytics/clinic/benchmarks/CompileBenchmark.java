@@ -0,0 +1,49 @@
+package com.merakianalytics.clinic.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.merakianalytics.clinic.Clinic;
+
+/**
+ * Measures what a launch that runs one command pays to build an application with many commands and run the first one. Without validate, only the
+ * selected command is built; with it, every command's options are built and checked first, which is what compiling an application does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompileBenchmark {
+    private static final String[] ARGS = new String[] {"command0"};
+
+    private Class<?> clazz;
+
+    @Param({"10", "500", "1000"})
+    public int commands;
+
+    @Param({"true", "false"})
+    public boolean validate;
+
+    @Benchmark
+    public int run() {
+        return Clinic.cli(clazz).executableName("generated").validate(validate).args(ARGS).run();
+    }
+
+    @Setup
+    public void setup() {
+        clazz = Fixtures.commands(commands);
+    }
+}
@@ -0,0 +1,108 @@
+package com.merakianalytics.clinic.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.merakianalytics.clinic.Option;
+
+/**
+ * Measures converting command line arguments to option values for single-valued options and multi-valued options with many elements
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterBenchmark {
+    public static class Id {
+        private final String value;
+
+        public Id(final String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+
+    public static void options(final int single, final Integer wrapper, final int[] array, final Integer[] wrapperArray,
+        @com.merakianalytics.clinic.annotations.Option(type = Integer.class) final List<Integer> list,
+        @com.merakianalytics.clinic.annotations.Option(type = Id.class) final List<Id> ids) {
+        return;
+    }
+
+    private Option array;
+    private Option ids;
+    private Option list;
+    private Option single;
+    private String[] value;
+    private String[] values;
+    private Option wrapper;
+    private Option wrapperArray;
+
+    @Param({"10000"})
+    public int size;
+
+    @Benchmark
+    public Object multiArray() {
+        return array.getValue(values);
+    }
+
+    @Benchmark
+    public Object multiIds() {
+        return ids.getValue(values);
+    }
+
+    @Benchmark
+    public Object multiList() {
+        return list.getValue(values);
+    }
+
+    @Benchmark
+    public Object multiWrapperArray() {
+        return wrapperArray.getValue(values);
+    }
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        final Method method = ConverterBenchmark.class.getMethod("options", int.class, Integer.class, int[].class, Integer[].class, List.class, List.class);
+        single = Option.get(method, method.getParameters()[0]);
+        wrapper = Option.get(method, method.getParameters()[1]);
+        array = Option.get(method, method.getParameters()[2]);
+        wrapperArray = Option.get(method, method.getParameters()[3]);
+        list = Option.get(method, method.getParameters()[4]);
+        ids = Option.get(method, method.getParameters()[5]);
+
+        value = new String[] {"12345"};
+        values = new String[size];
+        for(int i = 0; i < size; i++) {
+            values[i] = Integer.toString(i);
+        }
+    }
+
+    @Benchmark
+    public Object single() {
+        return single.getValue(value);
+    }
+
+    @Benchmark
+    public Object singleWrapper() {
+        return wrapper.getValue(value);
+    }
+}
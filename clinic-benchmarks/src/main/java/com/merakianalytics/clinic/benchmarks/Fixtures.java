@@ -0,0 +1,73 @@
+package com.merakianalytics.clinic.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * Generates and compiles cli classes with more commands than it's practical to write by hand. Each command has a handful of options with defaults of
+ * the kinds clinic has to materialize: a typed default, a String default that has to be parsed, and a default collection.
+ */
+final class Fixtures {
+    private static final Map<Integer, Class<?>> COMMANDS = new ConcurrentHashMap<>();
+
+    /**
+     * @param count
+     *        the number of commands the class should have
+     * @return a cli class with the number of commands
+     */
+    static Class<?> commands(final int count) {
+        return COMMANDS.computeIfAbsent(count, Fixtures::compile);
+    }
+
+    private static Class<?> compile(final int count) {
+        final String name = "Commands" + count;
+        final StringBuilder source = new StringBuilder();
+        source.append("package com.merakianalytics.clinic.benchmarks.generated;\n\n");
+        source.append("import com.merakianalytics.clinic.annotations.Command;\n");
+        source.append("import com.merakianalytics.clinic.annotations.Option;\n\n");
+        source.append("public class ").append(name).append(" {\n");
+        for(int i = 0; i < count; i++) {
+            source.append("    @Command(help = \"Runs command ").append(i).append("\")\n");
+            source.append("    public static int command").append(i).append("(@Option(defaultInt = ").append(i).append(") final int value,\n");
+            source.append("        @Option(defaultValue = \"PT").append(i).append("S\") final java.time.Duration timeout,\n");
+            source.append("        @Option(type = Integer.class, defaultValues = {\"1\", \"2\", \"3\"}) final java.util.List<Integer> values) {\n");
+            source.append("        return value;\n");
+            source.append("    }\n\n");
+        }
+        source.append("}\n");
+
+        try {
+            final Path directory = Files.createTempDirectory("clinic-fixtures");
+            final Path file = directory.resolve(name + ".java");
+            Files.write(file, source.toString().getBytes(StandardCharsets.UTF_8));
+
+            final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            if(compiler == null) {
+                throw new IllegalStateException("Generating fixtures needs a JDK, not a JRE!");
+            }
+            final String[] arguments = new String[] {"-proc:none", "-parameters", "-nowarn", "-classpath", System.getProperty("java.class.path"), "-d",
+                directory.toString(), file.toString()};
+            if(compiler.run(null, null, null, arguments) != 0) {
+                throw new IllegalStateException("Couldn't compile generated fixture with arguments " + Arrays.toString(arguments) + "!");
+            }
+
+            final URLClassLoader loader = new URLClassLoader(new URL[] {directory.toUri().toURL()}, Fixtures.class.getClassLoader());
+            return Class.forName("com.merakianalytics.clinic.benchmarks.generated." + name, true, loader);
+        } catch(final IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Couldn't generate fixture with " + count + " commands!", e);
+        }
+    }
+
+    private Fixtures() {}
+}
@@ -0,0 +1,85 @@
+package com.merakianalytics.clinic.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.merakianalytics.clinic.Application;
+import com.merakianalytics.clinic.Clinic;
+
+/**
+ * Measures rendering the application help prompt, both for --help and for the unrecognized command error that includes it, and a command's help
+ * prompt, for applications with many commands. render measures a long-running application that has already rendered its help once, and renderFirst
+ * measures the first render.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HelpBenchmark {
+    /**
+     * A newly compiled application for each invocation, so nothing has been rendered yet. This is what a single `prog --help` launch pays.
+     */
+    @State(Scope.Thread)
+    public static class Fresh {
+        private Application application;
+
+        @Setup(Level.Invocation)
+        public void setup(final HelpBenchmark benchmark) {
+            application = Clinic.cli(Fixtures.commands(benchmark.commands)).executableName("generated").compile();
+        }
+    }
+
+    private Application application;
+    private String[] args;
+
+    @Param({"10", "1000", "10000"})
+    public int commands;
+
+    @Param({"help", "unrecognized", "command"})
+    public String request;
+
+    @Benchmark
+    public String render() {
+        return application.parse(args).getMessage();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 30)
+    @Measurement(iterations = 100)
+    public String renderFirst(final Fresh fresh) {
+        return fresh.application.parse(args).getMessage();
+    }
+
+    @Setup
+    public void setup() {
+        application = Clinic.cli(Fixtures.commands(commands)).executableName("generated").compile();
+        switch(request) {
+            case "help":
+                args = new String[] {"--help"};
+                break;
+            case "unrecognized":
+                args = new String[] {"not-a-command"};
+                break;
+            case "command":
+                args = new String[] {"command0", "--help"};
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown request " + request + "!");
+        }
+    }
+}
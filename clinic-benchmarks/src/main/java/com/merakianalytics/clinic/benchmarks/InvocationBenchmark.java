@@ -0,0 +1,94 @@
+package com.merakianalytics.clinic.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.merakianalytics.clinic.Command;
+import com.merakianalytics.clinic.InvocationContext;
+
+/**
+ * Compares calling a command method through {@link java.lang.reflect.Method#invoke(Object, Object...)} against the spread
+ * {@link java.lang.invoke.MethodHandle} clinic binds each {@link com.merakianalytics.clinic.Command} to, and measures a full reflective
+ * {@link com.merakianalytics.clinic.Command#execute(String...)}, with and without a reusable {@link com.merakianalytics.clinic.InvocationContext}.
+ * Run with {@code -prof gc}: executeWithContext's gc.alloc.rate.norm should be about zero for add, whose small ints are cached boxes, and only the
+ * converted arguments and result for the others, like multiply's int array and repeat's strings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InvocationBenchmark {
+    private String[] args;
+    private MethodHandle handle;
+    private Method method;
+    private Object[] parameters;
+    private Command reflective;
+
+    @Param({"add", "multiply", "repeat"})
+    public String command;
+
+    @Benchmark
+    public Object execute() {
+        return reflective.execute(args);
+    }
+
+    @Benchmark
+    public Object executeWithContext() {
+        return reflective.execute(InvocationContext.get(), args);
+    }
+
+    @Benchmark
+    public Object methodHandle() throws Throwable {
+        return (Object)handle.invokeExact(parameters);
+    }
+
+    @Benchmark
+    public Object methodInvoke() throws Exception {
+        return method.invoke(null, parameters);
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        switch(command) {
+            case "add":
+                method = Calculator.class.getMethod("add", int.class, int.class);
+                args = new String[] {"-x", "1", "-y", "2"};
+                parameters = new Object[] {1, 2};
+                break;
+            case "multiply":
+                method = Calculator.class.getMethod("multiply", int[].class);
+                args = new String[] {"--values", "1", "2", "3", "4", "5", "6", "7", "8"};
+                parameters = new Object[] {new int[] {1, 2, 3, 4, 5, 6, 7, 8}};
+                break;
+            case "repeat":
+                method = Calculator.class.getMethod("repeat", String.class, int.class, boolean.class);
+                args = new String[] {"--message", "'hello'", "--times", "3", "--upper"};
+                parameters = new Object[] {"hello", 3, true};
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown command " + command + "!");
+        }
+
+        // Commands without a generated registry entry use the reflective engine
+        reflective = Command.get("calculator", method);
+        handle = MethodHandles.publicLookup().unreflect(method).asFixedArity().asSpreader(Object[].class, method.getParameterCount())
+            .asType(MethodType.methodType(Object.class, Object[].class));
+    }
+}
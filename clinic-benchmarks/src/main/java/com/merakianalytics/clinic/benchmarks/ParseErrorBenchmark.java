@@ -0,0 +1,69 @@
+package com.merakianalytics.clinic.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.merakianalytics.clinic.Application;
+import com.merakianalytics.clinic.Clinic;
+import com.merakianalytics.clinic.exceptions.ClinicException;
+
+/**
+ * Measures turning away malformed and --help requests, by catching the exceptions thrown by
+ * {@link com.merakianalytics.clinic.Application#execute(String...)} and through the non-throwing {@link com.merakianalytics.clinic.Application#parse(String...)}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseErrorBenchmark {
+    private Application application;
+    private String[] args;
+
+    @Param({"conversion", "help", "unrecognized"})
+    public String request;
+
+    @Benchmark
+    public Object execute() {
+        try {
+            return application.execute(args);
+        } catch(final ClinicException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object parse() {
+        return application.parse(args);
+    }
+
+    @Setup
+    public void setup() {
+        application = Clinic.cli(Calculator.class).executableName("calculator").compile();
+        switch(request) {
+            case "conversion":
+                args = new String[] {"add", "-x", "one", "-y", "2"};
+                break;
+            case "help":
+                args = new String[] {"add", "--help"};
+                break;
+            case "unrecognized":
+                args = new String[] {"add", "-x", "1", "-z", "2"};
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown request " + request + "!");
+        }
+    }
+}
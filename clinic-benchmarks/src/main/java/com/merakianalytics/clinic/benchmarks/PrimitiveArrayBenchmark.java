@@ -0,0 +1,70 @@
+package com.merakianalytics.clinic.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.merakianalytics.clinic.Option;
+
+/**
+ * Measures converting large numbers of arguments for primitive array options
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveArrayBenchmark {
+    public static void options(final int[] ints, final long[] longs, final double[] doubles) {
+        return;
+    }
+
+    private Option option;
+    private String[] values;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"int", "long", "double"})
+    public String type;
+
+    @Benchmark
+    public Object convert() {
+        return option.getValue(values);
+    }
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        final Method method = PrimitiveArrayBenchmark.class.getMethod("options", int[].class, long[].class, double[].class);
+        switch(type) {
+            case "int":
+                option = Option.get(method, method.getParameters()[0]);
+                break;
+            case "long":
+                option = Option.get(method, method.getParameters()[1]);
+                break;
+            case "double":
+                option = Option.get(method, method.getParameters()[2]);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown type " + type + "!");
+        }
+
+        values = new String[size];
+        for(int i = 0; i < size; i++) {
+            values[i] = "double".equals(type) ? Double.toString(i * 0.5) : Integer.toString(i);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.merakianalytics.clinic.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.merakianalytics.clinic.Option;
+import com.merakianalytics.clinic.collections.IntList;
+import com.merakianalytics.clinic.collections.IntSet;
+
+/**
+ * Compares clinic's primitive collections to boxed JDK collections for options with a lot of ints. Run with {@code -prof gc}: the
+ * gc.alloc.rate.norm it reports is roughly the footprint of the converted collection, since the collection is nearly all each conversion allocates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveCollectionBenchmark {
+    public static void options(@com.merakianalytics.clinic.annotations.Option(type = Integer.class) final List<Integer> list,
+        @com.merakianalytics.clinic.annotations.Option final IntList intList,
+        @com.merakianalytics.clinic.annotations.Option(type = Integer.class) final Set<Integer> set,
+        @com.merakianalytics.clinic.annotations.Option final IntSet intSet) {
+        return;
+    }
+
+    private Option option;
+    private String[] values;
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"list", "intList", "set", "intSet"})
+    public String type;
+
+    @Benchmark
+    public Object convert() {
+        return option.getValue(values);
+    }
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        final Method method = PrimitiveCollectionBenchmark.class.getMethod("options", List.class, IntList.class, Set.class, IntSet.class);
+        switch(type) {
+            case "list":
+                option = Option.get(method, method.getParameters()[0]);
+                break;
+            case "intList":
+                option = Option.get(method, method.getParameters()[1]);
+                break;
+            case "set":
+                option = Option.get(method, method.getParameters()[2]);
+                break;
+            case "intSet":
+                option = Option.get(method, method.getParameters()[3]);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown type " + type + "!");
+        }
+
+        values = new String[size];
+        for(int i = 0; i < size; i++) {
+            // Large enough that Integer.valueOf's cache doesn't hide the cost of boxing
+            values[i] = Integer.toString(1000 + i * 31);
+        }
+    }
+}
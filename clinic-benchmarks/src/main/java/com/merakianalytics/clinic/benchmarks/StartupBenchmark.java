@@ -0,0 +1,37 @@
+package com.merakianalytics.clinic.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.merakianalytics.clinic.Clinic;
+
+/**
+ * Measures a single cold run of a clinic application in a fresh JVM, with and without the registry generated by clinic-processor
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+    private static final String[] ARGS = new String[] {"add", "-x", "1", "-y", "2"};
+
+    @Param({"true", "false"})
+    public boolean registry;
+
+    @Benchmark
+    public int run() {
+        return Clinic.cli(Calculator.class).executableName("calculator").registry(registry).args(ARGS).run();
+    }
+}
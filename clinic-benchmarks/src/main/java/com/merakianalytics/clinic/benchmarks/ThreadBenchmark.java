@@ -0,0 +1,61 @@
+package com.merakianalytics.clinic.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.merakianalytics.clinic.Clinic;
+import com.merakianalytics.clinic.annotations.Command;
+import com.merakianalytics.clinic.annotations.Option;
+
+/**
+ * Measures running 10k concurrent invocations of a command that blocks on I/O for 10ms, each on its own thread from
+ * {@link com.merakianalytics.clinic.Clinic.Builder#await()}, with platform threads against virtual threads. Virtual threads need the benchmarks to be
+ * built and run on Java 21; on older versions both run on platform threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThreadBenchmark {
+    public static abstract class Blocking {
+        @Command
+        public static void block(@Option(required = true) final long millis) throws InterruptedException {
+            // Stands in for a blocking read from a socket or file
+            Thread.sleep(millis);
+        }
+    }
+
+    private static final String[] ARGS = new String[] {"--millis", "10"};
+    private static final int INVOCATIONS = 10000;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Benchmark
+    public void await(final Blackhole blackhole) throws Exception {
+        final Clinic.Builder builder = Clinic.cli(Blocking.class).args(ARGS).virtualThreads(virtualThreads);
+        final List<Future<Integer>> futures = new ArrayList<>(INVOCATIONS);
+        for(int i = 0; i < INVOCATIONS; i++) {
+            futures.add(builder.await());
+        }
+        for(final Future<Integer> future : futures) {
+            blackhole.consume(future.get());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.merakianalytics.clinic.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Runs an invocation on a {@link com.merakianalytics.clinic.daemon.Daemon}, forwarding the arguments, working directory, and stdin, and streaming
+ * back stdout, stderr, and the exit code. Run it as {@code java com.merakianalytics.clinic.daemon.Client SOCKET [ARGS...]}. It only needs this
+ * module's classes, so it starts much faster than the application it talks to.
+ *
+ * @since 1.0.0
+ */
+public class Client {
+    private static final int FAILURE = 1;
+
+    /**
+     * Runs an invocation on the daemon listening on the socket named by the first argument, with the rest of the arguments, and exits with its exit
+     * code
+     *
+     * @param args
+     *        the socket path followed by the command line arguments
+     */
+    public static void main(final String[] args) {
+        if(args.length == 0) {
+            System.err.println("Usage:  java " + Client.class.getName() + " SOCKET [ARGS...]");
+            System.exit(FAILURE);
+        }
+
+        int exitCode;
+        try {
+            exitCode = run(Paths.get(args[0]), Arrays.copyOfRange(args, 1, args.length), Paths.get("").toAbsolutePath(), System.in, System.out,
+                System.err);
+        } catch(final IOException e) {
+            System.err.println("Couldn't run on the daemon at " + args[0] + ": " + e);
+            exitCode = FAILURE;
+        }
+        System.out.flush();
+        System.exit(exitCode);
+    }
+
+    /**
+     * Runs an invocation on a daemon. Stdin is forwarded from a background thread, which is left blocked reading it if the invocation ends first.
+     *
+     * @param socket
+     *        the path of the daemon's socket
+     * @param args
+     *        the command line arguments
+     * @param workingDirectory
+     *        the working directory to run the invocation in
+     * @param in
+     *        the stdin for the invocation
+     * @param out
+     *        where to write the invocation's stdout
+     * @param err
+     *        where to write the invocation's stderr
+     * @return the exit code of the invocation
+     * @throws IOException
+     *         if the daemon couldn't be reached or hung up before the invocation finished
+     * @since 1.0.0
+     */
+    public static int run(final Path socket, final String[] args, final Path workingDirectory, final InputStream in, final OutputStream out,
+        final OutputStream err) throws IOException {
+        try(SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+            final DataOutputStream request = new DataOutputStream(new BufferedOutputStream(Protocol.output(channel), Protocol.BUFFER_SIZE));
+            request.writeInt(Protocol.VERSION);
+            Protocol.writeString(request, workingDirectory.toString());
+            request.writeInt(args.length);
+            for(final String arg : args) {
+                Protocol.writeString(request, arg);
+            }
+            request.flush();
+
+            final Thread forwarder = new Thread(() -> forward(in, request), "clinic-client stdin");
+            forwarder.setDaemon(true);
+            forwarder.start();
+
+            final DataInputStream response = new DataInputStream(new BufferedInputStream(Protocol.input(channel), Protocol.BUFFER_SIZE));
+            byte[] buffer = new byte[Protocol.BUFFER_SIZE];
+            while(true) {
+                final byte type;
+                try {
+                    type = response.readByte();
+                } catch(final EOFException e) {
+                    throw new IOException("The daemon hung up before the invocation finished!", e);
+                }
+                final int length = response.readInt();
+                if(type == Protocol.EXIT) {
+                    return response.readInt();
+                }
+
+                if(length > buffer.length) {
+                    buffer = new byte[length];
+                }
+                response.readFully(buffer, 0, length);
+                final OutputStream target = type == Protocol.STDERR ? err : out;
+                target.write(buffer, 0, length);
+                target.flush();
+            }
+        }
+    }
+
+    private static void forward(final InputStream in, final DataOutputStream request) {
+        final Protocol.FrameOutputStream frames = new Protocol.FrameOutputStream(request, Protocol.STDIN);
+        final byte[] buffer = new byte[Protocol.BUFFER_SIZE];
+        try {
+            for(int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                frames.write(buffer, 0, read);
+            }
+            synchronized(request) {
+                request.writeByte(Protocol.STDIN);
+                request.writeInt(0);
+                request.flush();
+            }
+        } catch(final IOException e) {
+            // The invocation finished and the connection closed before stdin ended
+        }
+    }
+
+    private Client() {}
+}
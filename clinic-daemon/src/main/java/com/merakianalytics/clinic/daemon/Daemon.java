@@ -0,0 +1,288 @@
+package com.merakianalytics.clinic.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.ConnectException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.merakianalytics.clinic.Application;
+import com.merakianalytics.clinic.StandardStreams;
+
+/**
+ * Serves a clinic application from a resident JVM over a Unix domain socket, so each invocation skips JVM startup and building the application.
+ * A {@link com.merakianalytics.clinic.daemon.Client} forwards its arguments, working directory, and stdin, and gets the invocation's stdout, stderr,
+ * and exit code back.
+ *
+ * Each invocation is run like {@link com.merakianalytics.clinic.Application#run(String...)} would run it, on its own thread, with
+ * {@link java.lang.System#in}, {@link java.lang.System#out} and {@link java.lang.System#err} routed to its connection. An exception thrown by a
+ * command is printed to the client's stderr with exit code 1. A command that returns a {@link java.util.concurrent.CompletionStage} frees its thread
+ * when it returns, and the client gets its exit code when the stage completes; output printed after the command returns goes to the daemon's own
+ * streams. The JVM's working directory can't change, so commands that resolve relative paths should
+ * resolve them against {@link #getWorkingDirectory()}.
+ *
+ * @since 1.0.0
+ */
+public class Daemon implements Closeable {
+    private static final int FAILURE = 1;
+    private static final int MAX_ACCEPT_FAILURES = 10;
+    private static final long MAX_BACKOFF_MILLIS = 1000;
+    private static final long MIN_BACKOFF_MILLIS = 10;
+    private static final ThreadLocal<Path> WORKING_DIRECTORY = new ThreadLocal<>();
+
+    private static void exit(final SocketChannel connection, final DataOutputStream out, final OutputStream stdout, final OutputStream stderr,
+        final int exitCode) {
+        try(connection) {
+            stdout.flush();
+            stderr.flush();
+            synchronized(out) {
+                out.writeByte(Protocol.EXIT);
+                out.writeInt(Integer.BYTES);
+                out.writeInt(exitCode);
+                out.flush();
+            }
+        } catch(final IOException e) {
+            // The client hung up, so there's nobody left to tell
+        }
+    }
+
+    /**
+     * @return the working directory of the client whose invocation is running on the current thread, or the JVM's working directory if no invocation
+     *         is
+     * @since 1.0.0
+     */
+    public static Path getWorkingDirectory() {
+        final Path workingDirectory = WORKING_DIRECTORY.get();
+        return workingDirectory != null ? workingDirectory : Paths.get(System.getProperty("user.dir"));
+    }
+
+    /**
+     * Starts serving the application on a socket, running each invocation on a new thread
+     *
+     * @param application
+     *        the application to serve
+     * @param socket
+     *        the path of the socket to listen on. A stale socket file left by a daemon that's no longer running is replaced.
+     * @return the running daemon
+     * @throws IOException
+     *         if the socket couldn't be bound, or another daemon is already listening on it
+     * @since 1.0.0
+     */
+    public static Daemon start(final Application application, final Path socket) throws IOException {
+        return start(application, socket, null);
+    }
+
+    /**
+     * Starts serving the application on a socket
+     *
+     * @param application
+     *        the application to serve
+     * @param socket
+     *        the path of the socket to listen on. A stale socket file left by a daemon that's no longer running is replaced.
+     * @param executor
+     *        the {@link java.util.concurrent.Executor} to run invocations on, or null to run each on a new thread
+     * @return the running daemon
+     * @throws IOException
+     *         if the socket couldn't be bound, or another daemon is already listening on it
+     * @since 1.0.0
+     */
+    public static Daemon start(final Application application, final Path socket, final Executor executor) throws IOException {
+        final UnixDomainSocketAddress address = UnixDomainSocketAddress.of(socket);
+        if(Files.exists(socket)) {
+            try(SocketChannel channel = SocketChannel.open(address)) {
+                throw new IOException("A daemon is already listening on " + socket + "!");
+            } catch(final ConnectException e) {
+                Files.delete(socket);
+            }
+        }
+
+        final ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            server.bind(address);
+        } catch(final IOException e) {
+            server.close();
+            throw e;
+        }
+
+        final Daemon daemon = new Daemon(application, socket, server, executor);
+        StandardStreams.install();
+        daemon.thread.start();
+        return daemon;
+    }
+
+    private final Application application;
+    private boolean closed;
+    private final Executor executor;
+    private volatile IOException failure;
+    private final ServerSocketChannel server;
+    private final ExecutorService service;
+    private final Path socket;
+    private final Thread thread;
+
+    private Daemon(final Application application, final Path socket, final ServerSocketChannel server, final Executor executor) {
+        this.application = application;
+        this.socket = socket;
+        this.server = server;
+        service = executor == null ? Executors.newCachedThreadPool() : null;
+        this.executor = executor == null ? service : executor;
+        thread = new Thread(this::accept, "clinic-daemon " + socket);
+    }
+
+    private void accept() {
+        int failures = 0;
+        while(true) {
+            final SocketChannel channel;
+            try {
+                channel = server.accept();
+                failures = 0;
+            } catch(final ClosedChannelException e) {
+                return;
+            } catch(final IOException e) {
+                // Failures like running out of file descriptors repeat until something changes, so back off, and give up if they persist
+                if(++failures >= MAX_ACCEPT_FAILURES) {
+                    failure = e;
+                    try {
+                        server.close();
+                    } catch(final IOException ignored) {
+                        // Stopping anyway
+                    }
+                    return;
+                }
+                try {
+                    Thread.sleep(Math.min(MIN_BACKOFF_MILLIS << failures - 1, MAX_BACKOFF_MILLIS));
+                } catch(final InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                continue;
+            }
+            executor.execute(() -> serve(channel));
+        }
+    }
+
+    /**
+     * Blocks until the daemon is closed, or stops accepting connections because accepting them keeps failing
+     *
+     * @throws InterruptedException
+     *         if the thread is interrupted while waiting
+     * @throws IOException
+     *         the last failure, if the daemon stopped because accepting connections kept failing. The daemon still needs to be closed.
+     * @since 1.0.0
+     */
+    public void await() throws InterruptedException, IOException {
+        thread.join();
+        if(failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Stops accepting connections and removes the socket file. Invocations that are already running finish.
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized(server) {
+            if(closed) {
+                return;
+            }
+            closed = true;
+            server.close();
+        }
+        try {
+            thread.join();
+        } catch(final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if(service != null) {
+            service.shutdown();
+        }
+        Files.deleteIfExists(socket);
+        StandardStreams.uninstall();
+    }
+
+    /**
+     * @return the path of the socket the daemon listens on
+     * @since 1.0.0
+     */
+    public Path getSocket() {
+        return socket;
+    }
+
+    private void serve(final SocketChannel connection) {
+        try {
+            final DataInputStream in = new DataInputStream(new BufferedInputStream(Protocol.input(connection), Protocol.BUFFER_SIZE));
+            final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Protocol.output(connection), Protocol.BUFFER_SIZE));
+
+            final int version = in.readInt();
+            final OutputStream stdout = new BufferedOutputStream(new Protocol.FrameOutputStream(out, Protocol.STDOUT), Protocol.BUFFER_SIZE);
+            final OutputStream stderr = new BufferedOutputStream(new Protocol.FrameOutputStream(out, Protocol.STDERR), Protocol.BUFFER_SIZE);
+            if(version != Protocol.VERSION) {
+                stderr.write(("The daemon speaks protocol version " + Protocol.VERSION + " but the client speaks version " + version + "!"
+                    + System.lineSeparator()).getBytes());
+                exit(connection, out, stdout, stderr, FAILURE);
+                return;
+            }
+
+            final Path workingDirectory;
+            final String[] args;
+            try {
+                workingDirectory = Paths.get(Protocol.readString(in));
+                args = new String[Protocol.readLength(in, Protocol.MAX_ARGUMENTS)];
+                for(int i = 0; i < args.length; i++) {
+                    args[i] = Protocol.readString(in);
+                }
+            } catch(final IOException | RuntimeException e) {
+                // Like a bad length, or a working directory that isn't a valid path on this system
+                stderr.write(("The daemon couldn't read the invocation: " + e + System.lineSeparator()).getBytes());
+                exit(connection, out, stdout, stderr, FAILURE);
+                return;
+            }
+
+            final CompletableFuture<Integer> exitCode;
+            StandardStreams.redirect(new Protocol.FrameInputStream(in), stdout, stderr);
+            WORKING_DIRECTORY.set(workingDirectory);
+            try {
+                exitCode = application.runAsync(args);
+            } finally {
+                System.out.flush();
+                System.err.flush();
+                StandardStreams.restore();
+                WORKING_DIRECTORY.remove();
+            }
+
+            // An asynchronous command keeps its connection open without holding this thread
+            exitCode.whenComplete((final Integer code, final Throwable error) -> {
+                if(error != null) {
+                    final PrintStream print = new PrintStream(stderr);
+                    error.printStackTrace(print);
+                    print.flush();
+                }
+                exit(connection, out, stdout, stderr, error != null ? FAILURE : code);
+            });
+        } catch(final IOException | RuntimeException e) {
+            try {
+                connection.close();
+            } catch(final IOException ignored) {
+                // Already gone
+            }
+        }
+    }
+}
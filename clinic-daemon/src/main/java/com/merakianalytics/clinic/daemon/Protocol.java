@@ -0,0 +1,191 @@
+package com.merakianalytics.clinic.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The wire protocol between a {@link com.merakianalytics.clinic.daemon.Client} and a {@link com.merakianalytics.clinic.daemon.Daemon}. All integers
+ * are big-endian and all strings are an int byte length followed by UTF-8.
+ *
+ * The client opens with the protocol version, the working directory, the number of arguments, and the arguments. After that both sides send frames
+ * of a one byte type, an int length, and that many bytes. The client sends {@link #STDIN} frames, with an empty one for the end of stdin. The daemon
+ * sends {@link #STDOUT} and {@link #STDERR} frames while the command runs, and then one {@link #EXIT} frame whose four bytes are the exit code.
+ *
+ * The daemon refuses negative lengths, more than {@link #MAX_ARGUMENTS} arguments, and strings longer than {@link #MAX_STRING_LENGTH} bytes, so a
+ * bad client can't make it allocate arbitrarily large arrays.
+ */
+final class Protocol {
+    // A frame per write would be a syscall per println, so output is buffered up to a frame of this size
+    static final int BUFFER_SIZE = 8192;
+    static final byte EXIT = 3;
+    static final int MAX_ARGUMENTS = 1 << 16;
+    static final int MAX_STRING_LENGTH = 1 << 20;
+    static final byte STDERR = 2;
+    static final byte STDIN = 0;
+    static final byte STDOUT = 1;
+    static final int VERSION = 1;
+
+    /**
+     * Reads the {@link #STDIN} frames a client sends as one stream, ending at the empty frame
+     */
+    static class FrameInputStream extends InputStream {
+        private boolean ended;
+        private final DataInputStream in;
+        private int remaining;
+
+        FrameInputStream(final DataInputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return remaining;
+        }
+
+        private boolean next() throws IOException {
+            while(remaining == 0 && !ended) {
+                final byte type = in.readByte();
+                if(type != STDIN) {
+                    throw new IOException("Expected a stdin frame but got a frame of type " + type + "!");
+                }
+                remaining = readLength(in, Integer.MAX_VALUE);
+                ended = remaining == 0;
+            }
+            return !ended;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if(!next()) {
+                return -1;
+            }
+            remaining--;
+            return in.read();
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+            if(length == 0) {
+                return 0;
+            }
+            if(!next()) {
+                return -1;
+            }
+            final int read = in.read(bytes, offset, Math.min(length, remaining));
+            if(read < 0) {
+                throw new IOException("The client hung up in the middle of a frame!");
+            }
+            remaining -= read;
+            return read;
+        }
+    }
+
+    /**
+     * Writes everything written to it as frames of one type. Frames from different streams on the same connection never interleave.
+     */
+    static class FrameOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final byte type;
+
+        FrameOutputStream(final DataOutputStream out, final byte type) {
+            this.out = out;
+            this.type = type;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized(out) {
+                out.flush();
+            }
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            if(length == 0) {
+                return;
+            }
+            synchronized(out) {
+                out.writeByte(type);
+                out.writeInt(length);
+                out.write(bytes, offset, length);
+                out.flush();
+            }
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[] {(byte)b}, 0, 1);
+        }
+    }
+
+    /**
+     * @param channel
+     *        a blocking socket channel
+     * @return a stream that reads from the channel. Unlike {@link java.nio.channels.Channels#newInputStream(java.nio.channels.ReadableByteChannel)},
+     *         a blocked read doesn't hold the channel's blocking lock, so the channel can be written to while it's being read from.
+     */
+    static InputStream input(final SocketChannel channel) {
+        return new InputStream() {
+            @Override
+            public int read() throws IOException {
+                final byte[] bytes = new byte[1];
+                return read(bytes, 0, 1) < 0 ? -1 : bytes[0] & 0xFF;
+            }
+
+            @Override
+            public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+                return length == 0 ? 0 : channel.read(ByteBuffer.wrap(bytes, offset, length));
+            }
+        };
+    }
+
+    /**
+     * @param channel
+     *        a blocking socket channel
+     * @return a stream that writes to the channel without holding the channel's blocking lock
+     */
+    static OutputStream output(final SocketChannel channel) {
+        return new OutputStream() {
+            @Override
+            public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+                final ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+                while(buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+
+            @Override
+            public void write(final int b) throws IOException {
+                write(new byte[] {(byte)b}, 0, 1);
+            }
+        };
+    }
+
+    static int readLength(final DataInputStream in, final int max) throws IOException {
+        final int length = in.readInt();
+        if(length < 0 || length > max) {
+            throw new IOException("Expected a length between 0 and " + max + " but got " + length + "!");
+        }
+        return length;
+    }
+
+    static String readString(final DataInputStream in) throws IOException {
+        final byte[] bytes = new byte[readLength(in, MAX_STRING_LENGTH)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void writeString(final DataOutputStream out, final String string) throws IOException {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private Protocol() {}
+}
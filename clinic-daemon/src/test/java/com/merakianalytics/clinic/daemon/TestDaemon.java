@@ -0,0 +1,234 @@
+package com.merakianalytics.clinic.daemon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.merakianalytics.clinic.Clinic;
+
+public class TestDaemon {
+    private static final String NEW_LINE = System.lineSeparator();
+
+    private static class Invocation {
+        private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+        private final int exitCode;
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Invocation(final Path socket, final String input, final Path workingDirectory, final String... args) throws IOException {
+            final InputStream in = new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+            exitCode = Client.run(socket, args, workingDirectory, in, out, err);
+        }
+
+        Invocation(final Path socket, final String... args) throws IOException {
+            this(socket, "", Paths.get("").toAbsolutePath(), args);
+        }
+
+        String err() {
+            return new String(err.toByteArray(), StandardCharsets.UTF_8);
+        }
+
+        String out() {
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private Daemon daemon;
+    private Path directory;
+    private PrintStream out;
+    private Path socket;
+
+    @AfterEach
+    public void close() throws IOException {
+        daemon.close();
+        Files.deleteIfExists(directory);
+    }
+
+    @BeforeEach
+    public void start() throws IOException {
+        directory = Files.createTempDirectory("clinic-daemon");
+        socket = directory.resolve("tool.sock");
+        out = System.out;
+        daemon = Daemon.start(Clinic.cli(Tool.class).executableName("tool").compile(), socket);
+    }
+
+    @Test
+    public void testClose() throws IOException {
+        assertNotSame(out, System.out);
+        daemon.close();
+        assertFalse(Files.exists(socket));
+        assertThrows(IOException.class, () -> new Invocation(socket, "echo", "--value", "hi"));
+        assertSame(out, System.out);
+
+        // Closing twice is harmless, and a stale socket file is replaced
+        daemon.close();
+        Files.createFile(socket);
+        daemon = Daemon.start(Clinic.cli(Tool.class).compile(), socket);
+        assertEquals(0, new Invocation(socket, "echo", "--value", "again").exitCode);
+        assertThrows(IOException.class, () -> Daemon.start(Clinic.cli(Tool.class).compile(), socket));
+    }
+
+    @Test
+    public void testAsync() throws Exception {
+        // Every invocation is in flight at once on a single thread, because none of them hold it while they wait
+        daemon.close();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final ExecutorService service = Executors.newFixedThreadPool(20);
+        try {
+            daemon = Daemon.start(Clinic.cli(Tool.class).compile(), socket, executor);
+            final List<Future<Invocation>> futures = new ArrayList<>();
+            for(int i = 0; i < 20; i++) {
+                final String value = "later-" + i;
+                futures.add(service.submit(() -> new Invocation(socket, "later", "--value", value)));
+            }
+            for(int i = 0; i < 20; i++) {
+                while(!Tool.PENDING.containsKey("later-" + i)) {
+                    Thread.sleep(1);
+                }
+            }
+
+            for(int i = 19; i > 0; i--) {
+                Tool.PENDING.get("later-" + i).complete(null);
+            }
+            Tool.PENDING.get("later-0").completeExceptionally(new IOException("oops"));
+            for(int i = 1; i < 20; i++) {
+                assertEquals(0, futures.get(i).get().exitCode);
+            }
+            assertEquals(1, futures.get(0).get().exitCode);
+            assertTrue(futures.get(0).get().err().contains("java.io.IOException: oops"));
+        } finally {
+            service.shutdown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        final ExecutorService service = Executors.newFixedThreadPool(16);
+        try {
+            final List<Future<Invocation>> futures = new ArrayList<>();
+            for(int i = 0; i < 200; i++) {
+                final String value = "value-" + i;
+                futures.add(service.submit(() -> new Invocation(socket, "echo", "--value", value, "--times", "50")));
+            }
+
+            // Each connection sees only its own output
+            for(int i = 0; i < futures.size(); i++) {
+                final Invocation invocation = futures.get(i).get();
+                assertEquals(0, invocation.exitCode);
+                assertEquals(("value-" + i + NEW_LINE).repeat(50), invocation.out());
+                assertEquals("err value-" + i + NEW_LINE, invocation.err());
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testExitCodes() throws IOException {
+        final Invocation echo = new Invocation(socket, "echo", "--value", "hi");
+        assertEquals(0, echo.exitCode);
+        assertEquals("hi" + NEW_LINE, echo.out());
+        assertEquals("err hi" + NEW_LINE, echo.err());
+
+        final Invocation unrecognized = new Invocation(socket, "nope");
+        assertEquals(1, unrecognized.exitCode);
+        assertTrue(unrecognized.out().contains("Unrecognized command: nope!"));
+
+        final Invocation help = new Invocation(socket, "--help");
+        assertEquals(0, help.exitCode);
+        assertTrue(help.out().contains("Usage:  tool COMMAND"));
+
+        final Invocation fail = new Invocation(socket, "fail", "--value", "oops");
+        assertEquals(1, fail.exitCode);
+        assertTrue(fail.err().contains("java.lang.IllegalStateException: oops"));
+    }
+
+    @Test
+    public void testMalformed() throws IOException {
+        // Each bad opening gets an exit code instead of a hang
+        assertEquals(1, openWith((final DataOutputStream request) -> request.writeInt(-1)));
+        assertEquals(1, openWith((final DataOutputStream request) -> request.writeInt(Integer.MAX_VALUE)));
+        assertEquals(1, openWith((final DataOutputStream request) -> {
+            Protocol.writeString(request, directory.toString());
+            request.writeInt(-1);
+        }));
+        assertEquals(1, openWith((final DataOutputStream request) -> {
+            Protocol.writeString(request, "bad\0path");
+            request.writeInt(0);
+        }));
+
+        // And the daemon keeps serving
+        assertEquals(0, new Invocation(socket, "echo", "--value", "hi").exitCode);
+    }
+
+    private interface Opening {
+        void write(DataOutputStream request) throws IOException;
+    }
+
+    private int openWith(final Opening opening) throws IOException {
+        try(SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+            final DataOutputStream request = new DataOutputStream(new BufferedOutputStream(Protocol.output(channel)));
+            request.writeInt(Protocol.VERSION);
+            opening.write(request);
+            request.flush();
+
+            final DataInputStream response = new DataInputStream(Protocol.input(channel));
+            while(true) {
+                final byte type = response.readByte();
+                final byte[] body = new byte[response.readInt()];
+                response.readFully(body);
+                if(type == Protocol.EXIT) {
+                    return ByteBuffer.wrap(body).getInt();
+                }
+                assertTrue(new String(body, StandardCharsets.UTF_8).startsWith("The daemon couldn't read the invocation: "));
+            }
+        }
+    }
+
+    @Test
+    public void testStdin() throws IOException {
+        final Invocation upper = new Invocation(socket, "some\ninput\n", Paths.get("").toAbsolutePath(), "upper");
+        assertEquals(0, upper.exitCode);
+        assertEquals("SOME\nINPUT\n", upper.out());
+
+        // Batch mode reads its lines from the client's stdin
+        final Invocation batch = new Invocation(socket, "echo --value one\necho --value two\n", Paths.get("").toAbsolutePath(), "--clinic-batch", "-");
+        assertEquals(0, batch.exitCode);
+        assertEquals("one" + NEW_LINE + "two" + NEW_LINE, batch.out());
+    }
+
+    @Test
+    public void testWorkingDirectory() throws IOException {
+        final Invocation cwd = new Invocation(socket, "", directory, "cwd");
+        assertEquals(directory + NEW_LINE, cwd.out());
+        assertEquals(Paths.get("").toAbsolutePath(), Daemon.getWorkingDirectory());
+    }
+}
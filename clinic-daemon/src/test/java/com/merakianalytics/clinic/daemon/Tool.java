@@ -0,0 +1,52 @@
+package com.merakianalytics.clinic.daemon;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.merakianalytics.clinic.annotations.Command;
+import com.merakianalytics.clinic.annotations.Option;
+
+public abstract class Tool {
+    public static final ConcurrentMap<String, CompletableFuture<Void>> PENDING = new ConcurrentHashMap<>();
+
+    @Command
+    public static void cwd() {
+        System.out.println(Daemon.getWorkingDirectory());
+    }
+
+    @Command
+    public static void echo(@Option(required = true) final String value, @Option final int times) {
+        for(int i = 0; i < Math.max(times, 1); i++) {
+            System.out.println(value);
+        }
+        System.err.println("err " + value);
+    }
+
+    @Command
+    public static void fail(@Option(required = true) final String value) {
+        throw new IllegalStateException(value);
+    }
+
+    @Command
+    public static CompletableFuture<Void> later(@Option(required = true) final String value) {
+        return PENDING.computeIfAbsent(value, (final String key) -> new CompletableFuture<>());
+    }
+
+    @Command
+    public static void upper() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[1024];
+        try {
+            for(int read = System.in.read(buffer); read >= 0; read = System.in.read(buffer)) {
+                bytes.write(buffer, 0, read);
+            }
+        } catch(final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.out.print(bytes.toString().toUpperCase());
+    }
+}
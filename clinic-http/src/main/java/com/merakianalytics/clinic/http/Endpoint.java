@@ -0,0 +1,302 @@
+package com.merakianalytics.clinic.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.merakianalytics.clinic.Application;
+import com.merakianalytics.clinic.RunResult;
+import com.merakianalytics.clinic.StandardStreams;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves a clinic application to local callers over HTTP, so programs in other languages can run its commands in a warm JVM instead of starting one
+ * for each invocation. The endpoint only listens on the loopback address.
+ *
+ * Each POST runs one invocation. The command line arguments are the request path's segments followed by the arguments in the body:
+ * <ul>
+ * <li>a JSON array of arguments, like {@code POST /} with {@code ["add", "--one", "1", "--two", "2"]}</li>
+ * <li>or, for {@code application/x-www-form-urlencoded} bodies, options named by the form's keys, like {@code POST /add} with {@code one=1&two=2}.
+ * Repeated keys give an option several arguments, and a key with only empty values is a flag.</li>
+ * </ul>
+ *
+ * JSON bodies must be sent as {@code application/json}; other content types get a 415. Since browsers let any page send simple cross-origin
+ * requests to the loopback address, requests with an {@code Origin} header or a {@code Host} other than {@code localhost} or {@code 127.0.0.1} on the
+ * endpoint's port are refused with a 403. Any local user or process can reach the loopback address too, so every request must also send the
+ * endpoint's secret in the {@value #SECRET} header, or it's refused with a 403. The secret is random unless one is given to
+ * {@link #start(Application, int, Executor, String)}, and {@link #getSecret()} gets it to hand to clients.
+ *
+ * The response is a JSON object with the invocation's {@code exitCode}, the command's {@code result}, the help prompt or error {@code message} that
+ * running it would have printed, the {@code error} the command threw, and the {@code stdout} and {@code stderr} it printed. Invocations that fail still
+ * respond with 200; only requests that can't be read get a 4xx.
+ *
+ * @since 1.0.0
+ */
+public class Endpoint implements Closeable {
+    private static final int BAD_REQUEST = 400;
+    private static final String FORM = "application/x-www-form-urlencoded";
+    private static final int FORBIDDEN = 403;
+    private static final String JSON = "application/json";
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int OK = 200;
+    private static final String POST = "POST";
+    /**
+     * The header requests must send an endpoint's secret in, if it was started with one
+     *
+     * @since 1.0.0
+     */
+    public static final String SECRET = "X-Clinic-Secret";
+    private static final int SECRET_BYTES = 32;
+    private static final int UNSUPPORTED_MEDIA_TYPE = 415;
+
+    private static void error(final HttpExchange exchange, final int status, final String message) throws IOException {
+        respond(exchange, status, Json.write(new StringBuilder("{\"error\":"), message).append('}'));
+    }
+
+    private static List<String> form(final String body) throws UnsupportedEncodingException {
+        final Map<String, List<String>> options = new LinkedHashMap<>();
+        for(final String pair : body.split("&")) {
+            if(pair.isEmpty()) {
+                continue;
+            }
+            final int split = pair.indexOf('=');
+            final String key = URLDecoder.decode(split >= 0 ? pair.substring(0, split) : pair, "UTF-8");
+            final String value = split >= 0 ? URLDecoder.decode(pair.substring(split + 1), "UTF-8") : "";
+            options.computeIfAbsent(key, (final String k) -> new ArrayList<>()).add(value);
+        }
+
+        final List<String> args = new ArrayList<>();
+        for(final Map.Entry<String, List<String>> option : options.entrySet()) {
+            final String key = option.getKey();
+            args.add(key.startsWith("-") ? key : (key.length() > 1 ? "--" : "-") + key);
+            for(final String value : option.getValue()) {
+                if(!value.isEmpty()) {
+                    // Quote values that look like options, like negative numbers. Clinic unquotes arguments as it converts them.
+                    args.add(value.startsWith("-") ? "'" + value + "'" : value);
+                }
+            }
+        }
+        return args;
+    }
+
+    private static String mediaType(final String type) {
+        if(type == null) {
+            return null;
+        }
+        final int split = type.indexOf(';');
+        return (split >= 0 ? type.substring(0, split) : type).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String randomSecret() {
+        final byte[] bytes = new byte[SECRET_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String read(final InputStream in) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        for(int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+            bytes.write(buffer, 0, read);
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final CharSequence json) throws IOException {
+        final byte[] body = json.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try(OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Starts serving the application on a local port with a random secret, running each request on a new thread
+     *
+     * @param application
+     *        the application to serve
+     * @param port
+     *        the port to listen on, or 0 for any free port
+     * @return the running endpoint. Clients must send its {@link #getSecret()} with each request.
+     * @throws IOException
+     *         if the port couldn't be bound
+     * @since 1.0.0
+     */
+    public static Endpoint start(final Application application, final int port) throws IOException {
+        return start(application, port, null, null);
+    }
+
+    /**
+     * Starts serving the application on a local port, only running requests that send a shared secret in the {@value #SECRET} header
+     *
+     * @param application
+     *        the application to serve
+     * @param port
+     *        the port to listen on, or 0 for any free port
+     * @param executor
+     *        the {@link java.util.concurrent.Executor} to run requests on, or null to run each on a new thread
+     * @param secret
+     *        the secret requests must send, or null for a random one
+     * @return the running endpoint
+     * @throws IOException
+     *         if the port couldn't be bound
+     * @since 1.0.0
+     */
+    public static Endpoint start(final Application application, final int port, final Executor executor, final String secret) throws IOException {
+        if(secret != null && secret.isEmpty()) {
+            throw new IllegalArgumentException("The secret can't be empty!");
+        }
+
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        final Endpoint endpoint = new Endpoint(application, server, executor, secret != null ? secret : randomSecret());
+        StandardStreams.install();
+        server.start();
+        return endpoint;
+    }
+
+    private final Application application;
+    private boolean closed;
+    private final Set<String> hosts;
+    private final String secret;
+    private final HttpServer server;
+    private final ExecutorService service;
+
+    private Endpoint(final Application application, final HttpServer server, final Executor executor, final String secret) {
+        this.application = application;
+        this.server = server;
+        this.secret = secret;
+        final int port = server.getAddress().getPort();
+        hosts = new HashSet<>(Arrays.asList("localhost:" + port, "127.0.0.1:" + port));
+        service = executor == null ? Executors.newCachedThreadPool() : null;
+        server.setExecutor(executor == null ? service : executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Stops accepting requests. Requests that are already running finish.
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public synchronized void close() {
+        if(closed) {
+            return;
+        }
+        closed = true;
+        server.stop(0);
+        if(service != null) {
+            service.shutdown();
+        }
+        StandardStreams.uninstall();
+    }
+
+    /**
+     * @return the port the endpoint listens on
+     * @since 1.0.0
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * @return the secret requests must send in the {@value #SECRET} header
+     * @since 1.0.0
+     */
+    public String getSecret() {
+        return secret;
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            if(!POST.equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", POST);
+                error(exchange, METHOD_NOT_ALLOWED, "Only POST is supported!");
+                return;
+            }
+
+            // Browsers send an Origin on cross-origin POSTs, and a page that rebinds its own domain to the loopback address still sends its Host
+            final String host = exchange.getRequestHeaders().getFirst("Host");
+            if(exchange.getRequestHeaders().containsKey("Origin") || host == null || !hosts.contains(host.toLowerCase(Locale.ROOT))) {
+                error(exchange, FORBIDDEN, "Only local, non-browser requests are allowed!");
+                return;
+            }
+            final String sent = exchange.getRequestHeaders().getFirst(SECRET);
+            if(sent == null || !MessageDigest.isEqual(secret.getBytes(StandardCharsets.UTF_8), sent.getBytes(StandardCharsets.UTF_8))) {
+                error(exchange, FORBIDDEN, "Missing or incorrect " + SECRET + " header!");
+                return;
+            }
+
+            final String type = mediaType(exchange.getRequestHeaders().getFirst("Content-Type"));
+            if(!JSON.equals(type) && !FORM.equals(type)) {
+                error(exchange, UNSUPPORTED_MEDIA_TYPE, "Content-Type must be " + JSON + " or " + FORM + "!");
+                return;
+            }
+
+            final List<String> args = new ArrayList<>();
+            for(final String segment : exchange.getRequestURI().getPath().split("/")) {
+                if(!segment.isEmpty()) {
+                    args.add(segment);
+                }
+            }
+            final String body = read(exchange.getRequestBody());
+            try {
+                if(FORM.equals(type)) {
+                    args.addAll(form(body));
+                } else if(!body.trim().isEmpty()) {
+                    args.addAll(Json.parseStrings(body));
+                }
+            } catch(final IllegalArgumentException e) {
+                error(exchange, BAD_REQUEST, e.getMessage());
+                return;
+            }
+
+            final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+            final ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+            final RunResult result;
+            StandardStreams.redirect(new ByteArrayInputStream(new byte[0]), stdout, stderr);
+            try {
+                result = application.runResult(args.toArray(new String[args.size()]));
+            } finally {
+                System.out.flush();
+                System.err.flush();
+                StandardStreams.restore();
+            }
+
+            final StringBuilder json = new StringBuilder();
+            json.append("{\"exitCode\":").append(result.getExitCode());
+            Json.write(json.append(",\"result\":"), result.getResult());
+            Json.write(json.append(",\"message\":"), result.getMessage());
+            Json.write(json.append(",\"error\":"), result.getError());
+            // The standard streams encode with the default charset
+            Json.write(json.append(",\"stdout\":"), stdout.toString());
+            Json.write(json.append(",\"stderr\":"), stderr.toString());
+            respond(exchange, OK, json.append('}'));
+        } finally {
+            exchange.close();
+        }
+    }
+}
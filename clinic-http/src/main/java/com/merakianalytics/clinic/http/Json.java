@@ -0,0 +1,200 @@
+package com.merakianalytics.clinic.http;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Just enough JSON for the endpoint: reading an array of arguments, and writing responses. Clinic doesn't depend on a JSON library, and an endpoint
+ * that only ever reads argument arrays shouldn't pull one in for its callers.
+ */
+final class Json {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static IllegalArgumentException expected(final String expected, final int position) {
+        return new IllegalArgumentException("Expected " + expected + " at position " + position + " of the request body!");
+    }
+
+    /**
+     * @param json
+     *        a JSON array of strings. Numbers and booleans are taken as their text.
+     * @return the strings in the array
+     * @throws IllegalArgumentException
+     *         if the JSON isn't an array of strings, numbers, and booleans
+     */
+    static List<String> parseStrings(final String json) {
+        final List<String> strings = new ArrayList<>();
+        int i = skipWhitespace(json, 0);
+        if(i >= json.length() || json.charAt(i) != '[') {
+            throw expected("a JSON array of arguments", i);
+        }
+        i = skipWhitespace(json, i + 1);
+        if(i < json.length() && json.charAt(i) == ']') {
+            i++;
+        } else {
+            while(true) {
+                if(i >= json.length()) {
+                    throw expected("an argument", i);
+                }
+                if(json.charAt(i) == '"') {
+                    final StringBuilder string = new StringBuilder();
+                    i = readString(json, i + 1, string);
+                    strings.add(string.toString());
+                } else {
+                    final int start = i;
+                    while(i < json.length() && (Character.isLetterOrDigit(json.charAt(i)) || "+-.".indexOf(json.charAt(i)) >= 0)) {
+                        i++;
+                    }
+                    final String literal = json.substring(start, i);
+                    if(literal.isEmpty() || "null".equals(literal)) {
+                        throw expected("a string, number, or boolean argument", start);
+                    }
+                    strings.add(literal);
+                }
+
+                i = skipWhitespace(json, i);
+                if(i < json.length() && json.charAt(i) == ',') {
+                    i = skipWhitespace(json, i + 1);
+                } else if(i < json.length() && json.charAt(i) == ']') {
+                    i++;
+                    break;
+                } else {
+                    throw expected(", or ]", i);
+                }
+            }
+        }
+        if(skipWhitespace(json, i) != json.length()) {
+            throw expected("the end of the request body", i);
+        }
+        return strings;
+    }
+
+    private static int readString(final String json, int i, final StringBuilder string) {
+        while(i < json.length()) {
+            final char c = json.charAt(i++);
+            if(c == '"') {
+                return i;
+            } else if(c != '\\') {
+                string.append(c);
+            } else if(i >= json.length()) {
+                break;
+            } else {
+                final char escaped = json.charAt(i++);
+                switch(escaped) {
+                    case 'b':
+                        string.append('\b');
+                        break;
+                    case 'f':
+                        string.append('\f');
+                        break;
+                    case 'n':
+                        string.append('\n');
+                        break;
+                    case 'r':
+                        string.append('\r');
+                        break;
+                    case 't':
+                        string.append('\t');
+                        break;
+                    case 'u':
+                        if(i + 4 > json.length()) {
+                            throw expected("four hex digits", i);
+                        }
+                        try {
+                            string.append((char)Integer.parseInt(json.substring(i, i + 4), 16));
+                        } catch(final NumberFormatException e) {
+                            throw expected("four hex digits", i);
+                        }
+                        i += 4;
+                        break;
+                    default:
+                        string.append(escaped);
+                        break;
+                }
+            }
+        }
+        throw expected("the end of the string", i);
+    }
+
+    private static int skipWhitespace(final String json, int i) {
+        while(i < json.length() && Character.isWhitespace(json.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Writes a value as JSON. Arrays and {@link java.lang.Iterable}s become arrays, {@link java.util.Map}s become objects, numbers and booleans are
+     * written as themselves, and anything else is written as its {@link java.lang.Object#toString()}.
+     *
+     * @param builder
+     *        the builder to write to
+     * @param value
+     *        the value to write
+     * @return the builder
+     */
+    static StringBuilder write(final StringBuilder builder, final Object value) {
+        if(value == null) {
+            builder.append("null");
+        } else if(value instanceof Boolean) {
+            builder.append(value);
+        } else if(value instanceof Number) {
+            final boolean finite = !(value instanceof Double && !Double.isFinite((Double)value) || value instanceof Float && !Float.isFinite((Float)value));
+            if(finite) {
+                builder.append(value);
+            } else {
+                writeString(builder, value.toString());
+            }
+        } else if(value.getClass().isArray()) {
+            builder.append('[');
+            for(int i = 0; i < Array.getLength(value); i++) {
+                write(i > 0 ? builder.append(',') : builder, Array.get(value, i));
+            }
+            builder.append(']');
+        } else if(value instanceof Iterable) {
+            builder.append('[');
+            boolean first = true;
+            for(final Object item : (Iterable<?>)value) {
+                write(first ? builder : builder.append(','), item);
+                first = false;
+            }
+            builder.append(']');
+        } else if(value instanceof Map) {
+            builder.append('{');
+            boolean first = true;
+            for(final Map.Entry<?, ?> entry : ((Map<?, ?>)value).entrySet()) {
+                writeString(first ? builder : builder.append(','), String.valueOf(entry.getKey())).append(':');
+                write(builder, entry.getValue());
+                first = false;
+            }
+            builder.append('}');
+        } else {
+            writeString(builder, value.toString());
+        }
+        return builder;
+    }
+
+    private static StringBuilder writeString(final StringBuilder builder, final String string) {
+        builder.append('"');
+        for(int i = 0; i < string.length(); i++) {
+            final char c = string.charAt(i);
+            if(c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if(c == '\n') {
+                builder.append("\\n");
+            } else if(c == '\r') {
+                builder.append("\\r");
+            } else if(c == '\t') {
+                builder.append("\\t");
+            } else if(c < 0x20) {
+                builder.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.append('"');
+    }
+
+    private Json() {}
+}
@@ -0,0 +1,222 @@
+package com.merakianalytics.clinic.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.merakianalytics.clinic.Clinic;
+
+public class TestEndpoint {
+    private static final String NEW_LINE = System.lineSeparator().replace("\r", "\\r").replace("\n", "\\n");
+
+    private static class Response {
+        private final String body;
+        private final int status;
+
+        private Response(final int status, final String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    private Endpoint endpoint;
+    private PrintStream out;
+
+    @AfterEach
+    public void close() {
+        endpoint.close();
+    }
+
+    private Response request(final String method, final String path, final String type, final String body) throws IOException {
+        return request(method, path, type, body, endpoint.getSecret());
+    }
+
+    private Response request(final String method, final String path, final String type, final String body, final String secret) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection)new URL("http://127.0.0.1:" + endpoint.getPort() + path).openConnection();
+        connection.setRequestMethod(method);
+        if(secret != null) {
+            connection.setRequestProperty(Endpoint.SECRET, secret);
+        }
+        if(body != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", type);
+            try(OutputStream stream = connection.getOutputStream()) {
+                stream.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        final int status = connection.getResponseCode();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(InputStream stream = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            final byte[] buffer = new byte[8192];
+            for(int read = stream.read(buffer); read >= 0; read = stream.read(buffer)) {
+                bytes.write(buffer, 0, read);
+            }
+        }
+        return new Response(status, new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    // HttpURLConnection won't send its own Host or Origin headers, so these requests are written by hand
+    private String status(final String headers) throws IOException {
+        try(Socket socket = new Socket(InetAddress.getLoopbackAddress(), endpoint.getPort())) {
+            final String body = "[\"--value\", \"x\"]";
+            final String request = "POST /echo HTTP/1.1\r\n" + headers + Endpoint.SECRET + ": " + endpoint.getSecret()
+                + "\r\nContent-Type: application/json\r\nContent-Length: " + body.length() + "\r\nConnection: close\r\n\r\n" + body;
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+            return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII)).readLine();
+        }
+    }
+
+    @BeforeEach
+    public void start() throws IOException {
+        out = System.out;
+        endpoint = Endpoint.start(Clinic.cli(Tool.class).executableName("tool").compile(), 0);
+    }
+
+    @Test
+    public void testBadRequests() throws IOException {
+        final Response get = request("GET", "/", null, null);
+        assertEquals(405, get.status);
+        assertEquals("{\"error\":\"Only POST is supported!\"}", get.body);
+
+        final Response malformed = request("POST", "/", "application/json", "[\"add\", ");
+        assertEquals(400, malformed.status);
+        assertTrue(malformed.body.startsWith("{\"error\":\"Expected"));
+        assertEquals(400, request("POST", "/", "application/json", "{\"args\": []}").status);
+        assertEquals(400, request("POST", "/", "application/json", "[null]").status);
+    }
+
+    @Test
+    public void testBrowserRequests() throws IOException {
+        // Pages can send these without a preflight
+        final Response plain = request("POST", "/", "text/plain", "[\"echo\", \"--value\", \"x\"]");
+        assertEquals(415, plain.status);
+        assertEquals("{\"error\":\"Content-Type must be application/json or application/x-www-form-urlencoded!\"}", plain.body);
+        assertEquals(415, request("POST", "/echo", null, null).status);
+        assertEquals(415, request("POST", "/", "application/jsonx", "[]").status);
+        assertEquals(200, request("POST", "/", "Application/JSON; charset=utf-8", "[\"echo\", \"--value\", \"x\"]").status);
+
+        final String host = "Host: 127.0.0.1:" + endpoint.getPort() + "\r\n";
+        assertEquals("HTTP/1.1 200 OK", status(host));
+        assertTrue(status(host + "Origin: http://example.com\r\n").startsWith("HTTP/1.1 403"));
+        assertTrue(status(host + "Origin: null\r\n").startsWith("HTTP/1.1 403"));
+    }
+
+    @Test
+    public void testClose() {
+        assertNotSame(out, System.out);
+        endpoint.close();
+        endpoint.close();
+        assertSame(out, System.out);
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        final ExecutorService service = Executors.newFixedThreadPool(16);
+        try {
+            final List<Future<Response>> futures = new ArrayList<>();
+            for(int i = 0; i < 200; i++) {
+                final String value = "value-" + i;
+                futures.add(service.submit(() -> request("POST", "/echo", "application/x-www-form-urlencoded", "value=" + value)));
+            }
+
+            // Each request sees only its own output
+            for(int i = 0; i < futures.size(); i++) {
+                final Response response = futures.get(i).get();
+                assertEquals(200, response.status);
+                assertEquals("{\"exitCode\":0,\"result\":\"value-" + i + "\",\"message\":null,\"error\":null,\"stdout\":\"value-" + i + NEW_LINE
+                    + "\",\"stderr\":\"err value-" + i + NEW_LINE + "\"}", response.body);
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testForm() throws IOException {
+        assertTrue(request("POST", "/add", "application/x-www-form-urlencoded", "one=1&two=-3").body.startsWith("{\"exitCode\":0,\"result\":-2,"));
+        assertTrue(request("POST", "/sort", "application/x-www-form-urlencoded", "values=3&values=1&values=2").body
+            .startsWith("{\"exitCode\":0,\"result\":[1,2,3],"));
+        assertTrue(request("POST", "/echo", "application/x-www-form-urlencoded; charset=utf-8", "value=a+b%21&loud=").body
+            .contains("\"stdout\":\"A B!" + NEW_LINE + "\""));
+    }
+
+    @Test
+    public void testHost() throws IOException {
+        assertEquals("HTTP/1.1 200 OK", status("Host: localhost:" + endpoint.getPort() + "\r\n"));
+        assertEquals("HTTP/1.1 200 OK", status("Host: 127.0.0.1:" + endpoint.getPort() + "\r\n"));
+        assertTrue(status("Host: attacker.example:" + endpoint.getPort() + "\r\n").startsWith("HTTP/1.1 403"));
+        assertTrue(status("Host: localhost:" + (endpoint.getPort() + 1) + "\r\n").startsWith("HTTP/1.1 403"));
+        assertTrue(status("Host: localhost\r\n").startsWith("HTTP/1.1 403"));
+    }
+
+    @Test
+    public void testJson() throws IOException {
+        final Response add = request("POST", "/", "application/json", "[\"add\", \"--one\", 1, \"--two\", \"2\"]");
+        assertEquals(200, add.status);
+        assertEquals("{\"exitCode\":0,\"result\":3,\"message\":null,\"error\":null,\"stdout\":\"\",\"stderr\":\"\"}", add.body);
+
+        // Path segments come before the arguments in the body
+        assertTrue(request("POST", "/echo", "application/json", "[\"--value\", \"quote \\\" and \\u00e9\"]").body
+            .startsWith("{\"exitCode\":0,\"result\":\"quote \\\" and \u00e9\","));
+
+        final Response help = request("POST", "/", "application/json", "[\"--help\"]");
+        assertTrue(help.body.startsWith("{\"exitCode\":0,\"result\":null,\"message\":\"" + NEW_LINE + "Usage:  tool COMMAND"));
+
+        final Response unrecognized = request("POST", "/nope", "application/json", "");
+        assertTrue(unrecognized.body.startsWith("{\"exitCode\":1,\"result\":null,\"message\":\"Unrecognized command: nope!"));
+
+        final Response fail = request("POST", "/fail", "application/json", "[\"--value\", \"oops\"]");
+        assertEquals("{\"exitCode\":1,\"result\":null,\"message\":null,\"error\":\"java.lang.IllegalStateException: oops\",\"stdout\":\"\",\"stderr\":\"\"}",
+            fail.body);
+    }
+
+    @Test
+    public void testSecret() throws IOException {
+        // Every endpoint gets its own random secret unless it's given one
+        final String secret = endpoint.getSecret();
+        assertTrue(secret.length() >= 32);
+        final Response missing = request("POST", "/", "application/json", "[\"echo\", \"--value\", \"x\"]", null);
+        assertEquals(403, missing.status);
+        assertEquals("{\"error\":\"Missing or incorrect X-Clinic-Secret header!\"}", missing.body);
+        assertEquals(403, request("POST", "/", "application/json", "[\"echo\", \"--value\", \"x\"]", secret + "x").status);
+        assertEquals(200, request("POST", "/", "application/json", "[\"echo\", \"--value\", \"x\"]", secret).status);
+
+        endpoint.close();
+        endpoint = Endpoint.start(Clinic.cli(Tool.class).executableName("tool").compile(), 0, null, null);
+        assertNotEquals(secret, endpoint.getSecret());
+        assertEquals(403, request("POST", "/", "application/json", "[\"echo\", \"--value\", \"x\"]", secret).status);
+
+        endpoint.close();
+        endpoint = Endpoint.start(Clinic.cli(Tool.class).executableName("tool").compile(), 0, null, "hunter2");
+        assertEquals("hunter2", endpoint.getSecret());
+        assertEquals(403, request("POST", "/", "application/json", "[\"echo\", \"--value\", \"x\"]", "hunter3").status);
+        assertEquals(200, request("POST", "/", "application/json", "[\"echo\", \"--value\", \"x\"]", "hunter2").status);
+        assertThrows(IllegalArgumentException.class, () -> Endpoint.start(Clinic.cli(Tool.class).compile(), 0, null, ""));
+    }
+}
@@ -0,0 +1,31 @@
+package com.merakianalytics.clinic.http;
+
+import java.util.List;
+
+import com.merakianalytics.clinic.annotations.Command;
+import com.merakianalytics.clinic.annotations.Option;
+
+public abstract class Tool {
+    @Command
+    public static int add(@Option(required = true) final int one, @Option(required = true) final int two) {
+        return one + two;
+    }
+
+    @Command
+    public static String echo(@Option(required = true) final String value, @Option(flag = true) final boolean loud) {
+        System.out.println(loud ? value.toUpperCase() : value);
+        System.err.println("err " + value);
+        return value;
+    }
+
+    @Command
+    public static void fail(@Option(required = true) final String value) {
+        throw new IllegalStateException(value);
+    }
+
+    @Command
+    public static List<Integer> sort(@Option(required = true, type = Integer.class) final List<Integer> values) {
+        values.sort(null);
+        return values;
+    }
+}
@@ -0,0 +1,288 @@
+package com.merakianalytics.clinic.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+import com.google.common.base.CaseFormat;
+
+/**
+ * Generates a clinic command registry for every class that has {@code @Command} or {@code @AutoCommand} methods. At runtime clinic uses the registry to
+ * find the commands of a cli class without scanning it and to name commands and options without relying on the -parameters compiler option.
+ *
+ * @since 1.0.0
+ */
+@SupportedAnnotationTypes({ClinicProcessor.AUTO_COMMAND, ClinicProcessor.COMMAND})
+public class ClinicProcessor extends AbstractProcessor {
+    static final String AUTO_COMMAND = "com.merakianalytics.clinic.annotations.AutoCommand";
+    static final String COMMAND = "com.merakianalytics.clinic.annotations.Command";
+    private static final String DEFAULT_STRING = "null"; // Mirrors com.merakianalytics.clinic.Default.STRING
+    private static final String REGISTRY = "com.merakianalytics.clinic.Registry";
+    private static final String SUFFIX = "_ClinicRegistry"; // Mirrors com.merakianalytics.clinic.Registry.SUFFIX
+
+    static String getClassLiteral(final Types types, final TypeMirror type) {
+        switch(type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case CHAR:
+            case DOUBLE:
+            case FLOAT:
+            case INT:
+            case LONG:
+            case SHORT:
+                return type.getKind().name().toLowerCase();
+            case ARRAY:
+                return getClassLiteral(types, ((ArrayType)type).getComponentType()) + "[]";
+            case DECLARED:
+                return ((TypeElement)((DeclaredType)type).asElement()).getQualifiedName().toString();
+            default:
+                return getClassLiteral(types, types.erasure(type));
+        }
+    }
+
+    private static String getOptionName(final VariableElement parameter) {
+        final String name = parameter.getSimpleName().toString();
+        return (name.length() > 1 ? "--" : "-") + toHypenCase(name);
+    }
+
+    static String literal(final String string) {
+        if(string == null) {
+            return "null";
+        }
+
+        final StringBuilder builder = new StringBuilder("\"");
+        for(int i = 0; i < string.length(); i++) {
+            final char c = string.charAt(i);
+            switch(c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if(c < 0x20 || c > 0x7E) {
+                        builder.append(String.format("\\u%04x", (int)c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    private static String toHypenCase(final String camelCase) {
+        return CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_HYPHEN, camelCase);
+    }
+
+    private AnnotationMirror getCommandAnnotation(final ExecutableElement method) {
+        for(final AnnotationMirror mirror : method.getAnnotationMirrors()) {
+            final String name = ((TypeElement)mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if(COMMAND.equals(name) || AUTO_COMMAND.equals(name)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private Object getValue(final AnnotationMirror annotation, final String name) {
+        for(final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils()
+            .getElementValuesWithDefaults(annotation).entrySet()) {
+            if(name.equals(entry.getKey().getSimpleName().toString())) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    private boolean isAccessible(final TypeMirror type) {
+        switch(type.getKind()) {
+            case ARRAY:
+                return isAccessible(((ArrayType)type).getComponentType());
+            case DECLARED:
+                return isAccessible(((DeclaredType)type).asElement());
+            case TYPEVAR:
+                return isAccessible(processingEnv.getTypeUtils().erasure(type));
+            default:
+                return type.getKind().isPrimitive();
+        }
+    }
+
+    private boolean isAccessible(final Element element) {
+        for(Element e = element; e != null && e.getKind() != ElementKind.PACKAGE; e = e.getEnclosingElement()) {
+            if(!(e instanceof TypeElement) || e.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            final NestingKind nesting = ((TypeElement)e).getNestingKind();
+            if(nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment environment) {
+        final Map<TypeElement, List<ExecutableElement>> commands = new LinkedHashMap<>();
+        for(final TypeElement annotation : annotations) {
+            for(final Element element : environment.getElementsAnnotatedWith(annotation)) {
+                if(element.getKind() != ElementKind.METHOD) {
+                    continue;
+                }
+                final TypeElement clazz = (TypeElement)element.getEnclosingElement();
+                final List<ExecutableElement> methods = commands.computeIfAbsent(clazz, (final TypeElement key) -> new ArrayList<>());
+                if(!methods.contains(element)) {
+                    methods.add((ExecutableElement)element);
+                }
+            }
+        }
+
+        for(final Map.Entry<TypeElement, List<ExecutableElement>> entry : commands.entrySet()) {
+            if(validate(entry.getKey(), entry.getValue())) {
+                write(entry.getKey(), entry.getValue());
+            }
+        }
+        return false;
+    }
+
+    private boolean validate(final TypeElement clazz, final List<ExecutableElement> methods) {
+        if(!isAccessible(clazz)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "Not generating a clinic registry for " + clazz.getSimpleName() + " because it isn't visible to its package. Clinic will use reflection instead.",
+                clazz);
+            return false;
+        }
+
+        for(final ExecutableElement method : methods) {
+            if(!method.getModifiers().contains(Modifier.STATIC)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Found an @Command annotation on " + method.getSimpleName()
+                    + ", but the method is not static. All @Command methods must be static. Not generating a clinic registry for " + clazz.getSimpleName()
+                    + ".", method);
+                return false;
+            }
+
+            for(final VariableElement parameter : method.getParameters()) {
+                if(!isAccessible(parameter.asType())) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Not generating a clinic registry for " + clazz.getSimpleName()
+                        + " because the type of " + parameter.getSimpleName() + " isn't visible to its package. Clinic will use reflection instead.", parameter);
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void write(final TypeElement clazz, final List<ExecutableElement> methods) {
+        final PackageElement pkg = processingEnv.getElementUtils().getPackageOf(clazz);
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(clazz).toString();
+        final String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        final String simpleName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1).replace('$', '_') + SUFFIX;
+
+        final StringBuilder builder = new StringBuilder();
+        if(!packageName.isEmpty()) {
+            builder.append("package ").append(packageName).append(";\n\n");
+        }
+        builder.append("/**\n");
+        builder.append(" * The clinic command registry for {@link ").append(clazz.getQualifiedName()).append("}. Generated by ")
+            .append(ClinicProcessor.class.getName()).append(", do not edit.\n");
+        builder.append(" */\n");
+        builder.append("public final class ").append(simpleName).append(" extends ").append(REGISTRY).append(" {\n");
+
+        final InvokerWriter invokerWriter = new InvokerWriter(processingEnv);
+        final List<String> invokers = new ArrayList<>();
+        final StringBuilder entries = new StringBuilder();
+        for(final ExecutableElement method : methods) {
+            final String methodName = method.getSimpleName().toString();
+            // Clinic never treats main as a command
+            if("main".equals(methodName)) {
+                continue;
+            }
+
+            final AnnotationMirror annotation = getCommandAnnotation(method);
+            final String name = (String)getValue(annotation, "name");
+            final String help = (String)getValue(annotation, "help");
+            final boolean defaultCommand = (Boolean)getValue(annotation, "defaultCommand");
+
+            final List<String> types = new ArrayList<>();
+            final List<String> optionNames = new ArrayList<>();
+            for(final VariableElement parameter : method.getParameters()) {
+                types.add(getClassLiteral(processingEnv.getTypeUtils(), parameter.asType()) + ".class");
+                optionNames.add(getOptionName(parameter));
+            }
+
+            final String invokerName = "invoke" + invokers.size();
+            final String invoker = invokerWriter.write(invokerName, clazz, method, optionNames);
+            if(invoker != null) {
+                invokers.add(invoker);
+            }
+
+            entries.append("            new ").append(REGISTRY).append(".Entry(");
+            entries.append(literal(DEFAULT_STRING.equals(name) ? toHypenCase(methodName) : name)).append(", ");
+            entries.append(literal(DEFAULT_STRING.equals(help) ? null : help)).append(", ");
+            entries.append(defaultCommand).append(", ");
+            entries.append(literal(methodName)).append(", ");
+            entries.append("new Class<?>[] {").append(String.join(", ", types)).append("}, ");
+            entries.append("new String[] {").append(optionNames.stream().map(ClinicProcessor::literal).collect(Collectors.joining(", "))).append("}");
+            if(invoker != null) {
+                entries.append(", ").append(simpleName).append("::").append(invokerName);
+            }
+            entries.append("),\n");
+        }
+        for(final String invoker : invokers) {
+            builder.append(invoker).append("\n");
+        }
+        builder.append("    @Override\n");
+        builder.append("    public ").append(REGISTRY).append(".Entry[] getEntries() {\n");
+        builder.append("        return new ").append(REGISTRY).append(".Entry[] {\n");
+        builder.append(entries);
+        builder.append("        };\n");
+        builder.append("    }\n");
+        builder.append("}\n");
+
+        final String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try(Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, clazz).openWriter()) {
+            writer.write(builder.toString());
+        } catch(final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Couldn't write the clinic registry " + qualifiedName + ": " + e.getMessage(), clazz);
+        }
+    }
+}
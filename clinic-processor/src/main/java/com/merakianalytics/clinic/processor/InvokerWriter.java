@@ -0,0 +1,302 @@
+package com.merakianalytics.clinic.processor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+
+/**
+ * Writes the straight-line parser and invoker for a single command. The generated invoker parses the common case (known options with well-formed
+ * arguments) without reflection or boxing and calls the command method directly. Anything it doesn't expect, including --help, errors, and values it
+ * can't convert itself, is handed back to clinic's reflective engine so the behavior and error messages stay identical.
+ *
+ * @since 1.0.0
+ */
+class InvokerWriter {
+    private static final String COLLECTION = "java.util.Collection";
+    private static final String HELP_OPTION = "--help"; // Mirrors com.merakianalytics.clinic.Common.HELP_OPTION
+    private static final String OPTION = "com.merakianalytics.clinic.annotations.Option";
+
+    private static String box(final String type) {
+        switch(type) {
+            case "boolean":
+                return "java.lang.Boolean";
+            case "byte":
+                return "java.lang.Byte";
+            case "char":
+                return "java.lang.Character";
+            case "double":
+                return "java.lang.Double";
+            case "float":
+                return "java.lang.Float";
+            case "int":
+                return "java.lang.Integer";
+            case "long":
+                return "java.lang.Long";
+            case "short":
+                return "java.lang.Short";
+            default:
+                return type;
+        }
+    }
+
+    private static String convert(final String type, final String value) {
+        switch(type) {
+            case "boolean":
+                return "java.lang.Boolean.parseBoolean(" + value + ")";
+            case "byte":
+                return "java.lang.Byte.parseByte(" + value + ")";
+            case "char":
+                return "toChar(" + value + ")";
+            case "double":
+                return "java.lang.Double.parseDouble(" + value + ")";
+            case "float":
+                return "java.lang.Float.parseFloat(" + value + ")";
+            case "int":
+                return "java.lang.Integer.parseInt(" + value + ")";
+            case "long":
+                return "java.lang.Long.parseLong(" + value + ")";
+            case "short":
+                return "java.lang.Short.parseShort(" + value + ")";
+            case "java.lang.Character":
+                return "java.lang.Character.valueOf(toChar(" + value + "))";
+            case "java.lang.String":
+                return value;
+            case "java.lang.Boolean":
+            case "java.lang.Byte":
+            case "java.lang.Double":
+            case "java.lang.Float":
+            case "java.lang.Integer":
+            case "java.lang.Long":
+            case "java.lang.Short":
+                return type + ".valueOf(" + value + ")";
+            default:
+                return null;
+        }
+    }
+
+    private static String[] ensureDashes(final List<String> names) {
+        final String[] dashed = new String[names.size()];
+        for(int i = 0; i < dashed.length; i++) {
+            final String name = names.get(i);
+            dashed[i] = name.startsWith("-") ? name : name.length() > 1 ? "--" + name : "-" + name;
+        }
+        return dashed;
+    }
+
+    private final ProcessingEnvironment processingEnv;
+
+    InvokerWriter(final ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    private AnnotationMirror getOptionAnnotation(final VariableElement parameter) {
+        for(final AnnotationMirror mirror : parameter.getAnnotationMirrors()) {
+            if(OPTION.equals(((TypeElement)mirror.getAnnotationType().asElement()).getQualifiedName().toString())) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private Object getValue(final AnnotationMirror annotation, final String name) {
+        for(final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils()
+            .getElementValuesWithDefaults(annotation).entrySet()) {
+            if(name.equals(entry.getKey().getSimpleName().toString())) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private boolean isMultiArgument(final TypeMirror type) {
+        if(type.getKind() == TypeKind.ARRAY) {
+            return true;
+        }
+        if(type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        final Types types = processingEnv.getTypeUtils();
+        final TypeElement collection = processingEnv.getElementUtils().getTypeElement(COLLECTION);
+        return collection != null && types.isAssignable(types.erasure(type), types.erasure(collection.asType()));
+    }
+
+    /**
+     * Writes the invoker for a command method
+     *
+     * @param invokerName
+     *        the name of the generated invoker method
+     * @param clazz
+     *        the cli class the command method is in
+     * @param method
+     *        the command method
+     * @param defaultNames
+     *        the default option names for the parameters of the command method
+     * @return the source of the invoker method, or null if the command can't have a generated invoker and should always use reflection
+     */
+    @SuppressWarnings("unchecked")
+    String write(final String invokerName, final TypeElement clazz, final ExecutableElement method, final List<String> defaultNames) {
+        if(method.getModifiers().contains(Modifier.PRIVATE) || !method.getTypeParameters().isEmpty()) {
+            return null;
+        }
+
+        final Types types = processingEnv.getTypeUtils();
+        final List<? extends VariableElement> parameters = method.getParameters();
+        final Set<String> seen = new HashSet<>();
+        final StringBuilder declarations = new StringBuilder();
+        final StringBuilder cases = new StringBuilder();
+        final StringBuilder defaults = new StringBuilder();
+        final List<String> required = new ArrayList<>();
+        final List<String> arguments = new ArrayList<>();
+
+        for(int k = 0; k < parameters.size(); k++) {
+            final VariableElement parameter = parameters.get(k);
+            final TypeMirror type = types.erasure(parameter.asType());
+            final String typeName = ClinicProcessor.getClassLiteral(types, type);
+            final String local = "p" + k;
+            arguments.add(local);
+
+            final AnnotationMirror annotation = getOptionAnnotation(parameter);
+            String[] names = new String[] {defaultNames.get(k)};
+            boolean flag = false;
+            boolean isRequired = false;
+            if(annotation != null) {
+                final List<String> annotated = new ArrayList<>();
+                for(final AnnotationValue value : (List<? extends AnnotationValue>)getValue(annotation, "names")) {
+                    annotated.add((String)value.getValue());
+                }
+                if(!annotated.isEmpty()) {
+                    names = ensureDashes(annotated);
+                }
+                flag = (Boolean)getValue(annotation, "flag");
+                isRequired = (Boolean)getValue(annotation, "required");
+            }
+
+            // Clinic rejects these at runtime, so leave them to the reflective engine to report
+            for(final String name : names) {
+                if(HELP_OPTION.equals(name) || !seen.add(name)) {
+                    return null;
+                }
+            }
+            if(flag && (isRequired || !"boolean".equals(typeName) && !"java.lang.Boolean".equals(typeName))) {
+                return null;
+            }
+
+            // Defaults are only fetched, and copied if they're mutable, for options the arguments didn't set
+            final String found = "f" + k;
+            declarations.append("        ").append(typeName).append(" ").append(local).append(" = ")
+                .append(type.getKind().isPrimitive() ? "boolean".equals(typeName) ? "false" : "(" + typeName + ")0" : "null").append(";\n");
+            declarations.append("        boolean ").append(found).append(" = false;\n");
+            if(isRequired) {
+                required.add(found);
+            } else {
+                defaults.append("        if(!").append(found).append(") {\n");
+                defaults.append("            ").append(local).append(" = (").append(box(typeName)).append(")getDefaultValue(command, ").append(k)
+                    .append(");\n");
+                defaults.append("        }\n");
+            }
+
+            for(final String name : names) {
+                cases.append("                        case ").append(ClinicProcessor.literal(name)).append(":\n");
+            }
+            cases.append("                        {\n");
+            if(flag) {
+                cases.append("                            ").append(local).append(" = true;\n");
+            } else {
+                cases.append("                            if(i + 1 >= arguments.length || arguments[i + 1].startsWith(\"-\")) {\n");
+                cases.append("                                break parse;\n");
+                cases.append("                            }\n");
+                if(isMultiArgument(type)) {
+                    cases.append("                            final int end = end(arguments, i + 1);\n");
+                    final String component = type.getKind() == TypeKind.ARRAY ? ClinicProcessor.getClassLiteral(types, ((ArrayType)type).getComponentType())
+                        : null;
+                    final String conversion = component == null ? null : convert(component, "unquote(arguments[i + 1 + j])");
+                    if(conversion != null) {
+                        cases.append("                            ").append(local).append(" = new ").append(component).append("[end - i - 1];\n");
+                        cases.append("                            for(int j = 0; j < ").append(local).append(".length; j++) {\n");
+                        cases.append("                                ").append(local).append("[j] = ").append(conversion).append(";\n");
+                        cases.append("                            }\n");
+                    } else {
+                        cases.append("                            ").append(local).append(" = (").append(typeName).append(")getValue(command, ").append(k)
+                            .append(", arguments, i + 1, end);\n");
+                    }
+                    cases.append("                            i = end - 1;\n");
+                } else {
+                    final String conversion = convert(typeName, "unquote(arguments[++i])");
+                    if(conversion != null) {
+                        cases.append("                            ").append(local).append(" = ").append(conversion).append(";\n");
+                    } else {
+                        cases.append("                            ").append(local).append(" = (").append(typeName).append(")getValue(command, ").append(k)
+                            .append(", arguments, i + 1, i + 2);\n");
+                        cases.append("                            i++;\n");
+                    }
+                }
+            }
+            cases.append("                            ").append(found).append(" = true;\n");
+            cases.append("                            break;\n");
+            cases.append("                        }\n");
+        }
+
+        final String call = clazz.getQualifiedName() + "." + method.getSimpleName() + "(" + String.join(", ", arguments) + ")";
+        final boolean returns = method.getReturnType().getKind() != TypeKind.VOID;
+
+        final StringBuilder builder = new StringBuilder();
+        builder.append("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        builder.append("    private static Object ").append(invokerName).append("(final com.merakianalytics.clinic.Command command, final String[] arguments,\n");
+        builder.append("        final int start) {\n");
+        builder.append(declarations);
+        builder.append("\n");
+        builder.append("        boolean parsed = false;\n");
+        builder.append("        try {\n");
+        builder.append("            parse: {\n");
+        builder.append("                for(int i = start; i < arguments.length; i++) {\n");
+        builder.append("                    switch(arguments[i]) {\n");
+        builder.append(cases);
+        builder.append("                        default:\n");
+        builder.append("                            break parse;\n");
+        builder.append("                    }\n");
+        builder.append("                }\n");
+        builder.append("                parsed = true;\n");
+        builder.append("            }\n");
+        builder.append("        } catch(final RuntimeException e) {\n");
+        builder.append("            // A converter failed, so the reflective engine reports the error. The command hasn't run yet.\n");
+        builder.append("        }\n");
+        builder.append("        if(!parsed");
+        for(final String found : required) {
+            builder.append(" || !").append(found);
+        }
+        builder.append(") {\n");
+        builder.append("            return fallback(command, arguments, start);\n");
+        builder.append("        }\n");
+        builder.append(defaults);
+        builder.append("\n");
+        builder.append("        // Outside the parse so the command's own exceptions propagate instead of running it again reflectively\n");
+        builder.append("        try {\n");
+        if(returns) {
+            builder.append("            return ").append(call).append(";\n");
+        } else {
+            builder.append("            ").append(call).append(";\n");
+            builder.append("            return null;\n");
+        }
+        builder.append("        } catch(final RuntimeException e) {\n");
+        builder.append("            throw e;\n");
+        builder.append("        } catch(final Throwable e) {\n");
+        builder.append("            throw new RuntimeException(null, e);\n");
+        builder.append("        }\n");
+        builder.append("    }\n");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,510 @@
+package com.merakianalytics.clinic;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import com.merakianalytics.clinic.exceptions.ClinicGetHelpException;
+import com.merakianalytics.clinic.exceptions.ClinicParseException;
+
+/**
+ * A compiled clinic application. The commands, default command, and options of the cli class are resolved once when the application is compiled, so
+ * it can be run any number of times without any reflective scanning. Applications are immutable and safe to share between threads.
+ *
+ * Applications built to run once by {@link com.merakianalytics.clinic.Clinic.Builder#run()} and friends only index their commands by name, and
+ * build a command's options the first time the command is used.
+ *
+ * Commands can be asynchronous by returning a {@link java.util.concurrent.CompletionStage}. {@link #runAsync(String...)} and
+ * {@link #runAll(Iterable, Executor, int, Consumer)} compose on the stage instead of waiting for it, so an invocation that's waiting on I/O doesn't
+ * hold a thread. The other ways of running an application wait for the stage to complete, and treat it like the command's result or exception.
+ *
+ * @see com.merakianalytics.clinic.Clinic.Builder#compile()
+ * @since 1.0.0
+ */
+public class Application {
+    static final int DEFAULT_WINDOW = 1024;
+    private static final int FAILURE = 1;
+    private static final int SUCCESS = 0;
+
+    static <T> void complete(final CompletableFuture<T> future, final CompletionStage<? extends T> stage) {
+        stage.whenComplete((final T value, final Throwable error) -> {
+            if(error != null) {
+                future.completeExceptionally(failure(error));
+            } else {
+                future.complete(value);
+            }
+        });
+    }
+
+    private static RuntimeException failure(final Throwable error) {
+        // Unwrap to the exception the command's stage failed with, wrapping checked exceptions like Command does
+        Throwable cause = error;
+        while(cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RuntimeException ? (RuntimeException)cause : new RuntimeException(null, cause);
+    }
+
+    private static Object join(final Object result) {
+        if(!(result instanceof CompletionStage)) {
+            return result;
+        }
+
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        complete(future, (CompletionStage<?>)result);
+        try {
+            return future.join();
+        } catch(final CompletionException e) {
+            throw failure(e);
+        }
+    }
+
+    private String applicationHelp;
+    private final Map<String, Command.Declaration> commands;
+    private final Command.Declaration defaultCommand;
+    private final String executableName;
+    private final String help;
+
+    Application(final String executableName, final String help, final Map<String, Command.Declaration> commands,
+        final Command.Declaration defaultCommand) {
+        this.executableName = executableName;
+        this.help = help;
+        this.commands = Collections.unmodifiableMap(commands);
+        this.defaultCommand = defaultCommand;
+    }
+
+    /**
+     * Executes the command selected by the provided command line arguments
+     *
+     * @param args
+     *        the command line arguments
+     * @return the result of executing the selected command
+     * @throws com.merakianalytics.clinic.exceptions.ClinicGetHelpException
+     *         if the arguments ask for a help prompt. The exception message is the help prompt.
+     * @throws com.merakianalytics.clinic.exceptions.ClinicParseException
+     *         if the arguments are invalid. The exception message describes the problem.
+     * @since 1.0.0
+     */
+    public Object execute(final String... args) {
+        return execute(null, args);
+    }
+
+    /**
+     * Executes the command selected by the provided command line arguments, reusing the buffers in an
+     * {@link com.merakianalytics.clinic.InvocationContext} instead of allocating new ones
+     *
+     * @param context
+     *        the buffers to use, or null to allocate new ones
+     * @param args
+     *        the command line arguments
+     * @return the result of executing the selected command
+     * @throws com.merakianalytics.clinic.exceptions.ClinicGetHelpException
+     *         if the arguments ask for a help prompt. The exception message is the help prompt.
+     * @throws com.merakianalytics.clinic.exceptions.ClinicParseException
+     *         if the arguments are invalid. The exception message describes the problem.
+     * @since 1.0.0
+     */
+    public Object execute(final InvocationContext context, final String... args) {
+        Command.Declaration command = defaultCommand;
+        int start = 0;
+
+        if(args.length > 0) {
+            if(Common.HELP_OPTION.equals(args[0])) {
+                throw new ClinicGetHelpException(this::getApplicationHelp, null, false);
+            }
+
+            // If the first argument isn't an option or help, treat it as a command.
+            if(!args[0].startsWith("-")) {
+                command = commands.get(args[0]);
+                if(command == null) {
+                    final String name = args[0];
+                    throw new ClinicParseException(() -> "Unrecognized command: " + name + "!" + System.lineSeparator() + getApplicationHelp(), null, false);
+                }
+                start = 1;
+            }
+        }
+
+        if(command == null) {
+            throw new ClinicParseException(() -> "No command was provided!" + System.lineSeparator() + getApplicationHelp(), null, false);
+        }
+
+        return command.get().execute(context, args, start);
+    }
+
+    private String getApplicationHelp() {
+        // Racing threads may both render the help, but they render the same string
+        String applicationHelp = this.applicationHelp;
+        if(applicationHelp == null) {
+            applicationHelp = renderApplicationHelp();
+            this.applicationHelp = applicationHelp;
+        }
+        return applicationHelp;
+    }
+
+    /**
+     * @param name
+     *        the name of the command
+     * @return the command with the provided name, or null if there is no such command
+     * @since 1.0.0
+     */
+    public Command getCommand(final String name) {
+        final Command.Declaration command = commands.get(name);
+        return command == null ? null : command.get();
+    }
+
+    /**
+     * @return the commands in the application. Any commands that haven't been used yet are built.
+     * @since 1.0.0
+     */
+    public Collection<Command> getCommands() {
+        final List<Command> commands = new ArrayList<>(this.commands.size());
+        for(final Command.Declaration command : this.commands.values()) {
+            commands.add(command.get());
+        }
+        return Collections.unmodifiableList(commands);
+    }
+
+    /**
+     * @return the command to use if none is specified, or null if there is no default command
+     * @since 1.0.0
+     */
+    public Command getDefaultCommand() {
+        return defaultCommand == null ? null : defaultCommand.get();
+    }
+
+    /**
+     * @return the executable name used in --help prompts
+     * @since 1.0.0
+     */
+    public String getExecutableName() {
+        return executableName;
+    }
+
+    /**
+     * @return the help description for the application
+     * @since 1.0.0
+     */
+    public String getHelp() {
+        return help;
+    }
+
+    /**
+     * Parses the command line arguments for the selected command without executing it. Nothing is thrown for bad arguments or --help; the result
+     * describes what happened instead. Error positions are indices into args.
+     *
+     * @param args
+     *        the command line arguments
+     * @return the selected command and its bound parameters, a help request, or a description of what was wrong with the arguments
+     * @since 1.0.0
+     */
+    public ParseResult parse(final String... args) {
+        Command.Declaration command = defaultCommand;
+        int start = 0;
+
+        if(args.length > 0) {
+            if(Common.HELP_OPTION.equals(args[0])) {
+                return ParseResult.help(this::getApplicationHelp);
+            }
+
+            // If the first argument isn't an option or help, treat it as a command.
+            if(!args[0].startsWith("-")) {
+                command = commands.get(args[0]);
+                if(command == null) {
+                    final String name = args[0];
+                    return ParseResult.error(ParseResult.ErrorType.UNRECOGNIZED_COMMAND, null, name, 0, null,
+                        () -> "Unrecognized command: " + name + "!" + System.lineSeparator() + getApplicationHelp());
+                }
+                start = 1;
+            }
+        }
+
+        if(command == null) {
+            return ParseResult.error(ParseResult.ErrorType.NO_COMMAND, null, null, -1, null,
+                () -> "No command was provided!" + System.lineSeparator() + getApplicationHelp());
+        }
+
+        return command.get().parse(args, start);
+    }
+
+    /**
+     * Runs the application with the provided command line arguments, printing any help prompts or errors to {@link java.lang.System#out}
+     *
+     * If the first argument is {@value com.merakianalytics.clinic.Common#BATCH_OPTION}, the application is instead run once for each line of the file
+     * named by the next argument, or of stdin if it's -, with each line tokenized as a command line. Add
+     * {@value com.merakianalytics.clinic.Common#THREADS_OPTION} N to run the lines on N threads. Blank lines and lines starting with # are skipped.
+     * Messages are printed in line order, followed by a summary of the lines that failed, and the exit code is 0 only if every line succeeded.
+     *
+     * If the first argument is {@value com.merakianalytics.clinic.Common#SHELL_OPTION}, an interactive shell is run instead. See {@link #shell()}.
+     * Add {@value com.merakianalytics.clinic.Common#TIME_OPTION} to report how long each command takes from the start.
+     *
+     * If the selected command returns a {@link java.util.concurrent.CompletionStage}, this waits for it to complete.
+     *
+     * @param args
+     *        the command line arguments
+     * @return the exit code of the application
+     * @since 1.0.0
+     */
+    public int run(final String... args) {
+        if(args.length > 0 && Common.BATCH_OPTION.equals(args[0])) {
+            return Batch.run(this, args);
+        }
+        if(args.length > 0 && Common.SHELL_OPTION.equals(args[0])) {
+            return Shell.run(this, args);
+        }
+
+        try {
+            join(execute(args));
+            return SUCCESS;
+        } catch(final ClinicGetHelpException e) {
+            System.out.print(e.getMessage());
+            return SUCCESS;
+        } catch(final ClinicParseException e) {
+            System.out.print(e.getMessage());
+            return FAILURE;
+        }
+    }
+
+    /**
+     * Runs the application once for each of the provided command line arguments, executing the invocations in parallel on the provided
+     * {@link java.util.concurrent.Executor}. Up to 1024 invocations are in flight at once.
+     *
+     * The results are collected into a list, so use {@link #runAll(Iterable, Executor, int, Consumer)} for batches too large to keep every result
+     * of.
+     *
+     * @param invocations
+     *        the command line arguments of each invocation
+     * @param executor
+     *        the {@link java.util.concurrent.Executor} to run the invocations on
+     * @return the result of each invocation, in the order the invocations were provided
+     * @since 1.0.0
+     */
+    public List<RunResult> runAll(final Iterable<String[]> invocations, final Executor executor) {
+        final List<RunResult> results = new ArrayList<>();
+        runAll(invocations, executor, DEFAULT_WINDOW, results::add);
+        return results;
+    }
+
+    /**
+     * Runs the application once for each of the provided command line arguments, executing the invocations in parallel on the provided
+     * {@link java.util.concurrent.Executor} and handing their results to the consumer in the order the invocations were provided. At most window
+     * invocations are in flight at once, so the invocations can be read lazily and memory stays flat however many there are.
+     *
+     * The consumer is called on the calling thread, which blocks until every invocation has run. A slow invocation holds back the results behind it,
+     * and the invocations after them once the window is full. An invocation whose command returns a {@link java.util.concurrent.CompletionStage}
+     * frees its executor thread when the command returns, and stays in flight until the stage completes.
+     *
+     * An invocation the executor rejects, like with a {@link java.util.concurrent.RejectedExecutionException} from an executor that's shut down,
+     * isn't run, and its result fails with the executor's exception as its error. If the consumer throws, this waits for the invocations already in
+     * flight to finish without handing over their results, and then rethrows. The invocations after those aren't run.
+     *
+     * @param invocations
+     *        the command line arguments of each invocation
+     * @param executor
+     *        the {@link java.util.concurrent.Executor} to run the invocations on
+     * @param window
+     *        the most invocations to have in flight at once
+     * @param consumer
+     *        the consumer to hand each result to
+     * @since 1.0.0
+     */
+    public void runAll(final Iterable<String[]> invocations, final Executor executor, final int window, final Consumer<? super RunResult> consumer) {
+        if(window < 1) {
+            throw new IllegalArgumentException("The window must allow at least one invocation in flight!");
+        }
+
+        final ArrayDeque<CompletableFuture<RunResult>> pending = new ArrayDeque<>(Math.min(window, DEFAULT_WINDOW));
+        try {
+            for(final String[] args : invocations) {
+                // Wait for the oldest invocation once the window is full, and hand over any others that have finished in order
+                if(pending.size() == window) {
+                    consumer.accept(pending.poll().join());
+                }
+                while(!pending.isEmpty() && pending.peek().isDone()) {
+                    consumer.accept(pending.poll().join());
+                }
+
+                final CompletableFuture<RunResult> future = new CompletableFuture<>();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            complete(future, runResultAsync(args));
+                        } catch(final Throwable e) {
+                            future.completeExceptionally(e);
+                        }
+                    });
+                } catch(final RuntimeException e) {
+                    // Like a RejectedExecutionException from an executor that's shut down or saturated
+                    future.complete(new RunResult(args, FAILURE, null, e));
+                }
+                pending.add(future);
+            }
+
+            while(!pending.isEmpty()) {
+                consumer.accept(pending.poll().join());
+            }
+        } finally {
+            // If the consumer or the invocations threw, don't return while invocations are still running
+            for(final CompletableFuture<RunResult> future : pending) {
+                try {
+                    future.join();
+                } catch(final CompletionException e) {
+                    // Already failing
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the application with the provided command line arguments like {@link #run(String...)}, but without waiting for a command that returns a
+     * {@link java.util.concurrent.CompletionStage}. The command is parsed and called on the calling thread, and the returned future completes with
+     * the exit code when the command's stage does, so an invocation that's waiting on I/O doesn't hold a thread. Help prompts and errors are printed
+     * before this returns.
+     *
+     * @param args
+     *        the command line arguments
+     * @return a future that completes with the exit code of the application, or exceptionally with the exception the command threw or its stage
+     *         failed with
+     * @since 1.0.0
+     */
+    public CompletableFuture<Integer> runAsync(final String... args) {
+        final CompletableFuture<Integer> future = new CompletableFuture<>();
+        if(args.length > 0 && (Common.BATCH_OPTION.equals(args[0]) || Common.SHELL_OPTION.equals(args[0]))) {
+            future.complete(run(args));
+            return future;
+        }
+
+        final Object result;
+        try {
+            result = execute(args);
+        } catch(final ClinicGetHelpException e) {
+            System.out.print(e.getMessage());
+            future.complete(SUCCESS);
+            return future;
+        } catch(final ClinicParseException e) {
+            System.out.print(e.getMessage());
+            future.complete(FAILURE);
+            return future;
+        } catch(final RuntimeException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        if(result instanceof CompletionStage) {
+            ((CompletionStage<?>)result).whenComplete((final Object value, final Throwable error) -> {
+                if(error != null) {
+                    future.completeExceptionally(failure(error));
+                } else {
+                    future.complete(SUCCESS);
+                }
+            });
+        } else {
+            future.complete(SUCCESS);
+        }
+        return future;
+    }
+
+    /**
+     * Runs the application with the provided command line arguments like {@link #run(String...)}, but keeps any help prompt or error message in the
+     * result instead of printing it, and keeps an exception thrown by the command instead of throwing it. If the command returns a
+     * {@link java.util.concurrent.CompletionStage}, this waits for it, and the result is what the stage completed with.
+     *
+     * @param args
+     *        the command line arguments
+     * @return the exit code, the result of executing the selected command, and any message or exception
+     * @since 1.0.0
+     */
+    public RunResult runResult(final String... args) {
+        try {
+            return new RunResult(args, SUCCESS, join(execute(InvocationContext.get(), args)), null);
+        } catch(final ClinicGetHelpException e) {
+            return new RunResult(args, SUCCESS, null, e);
+        } catch(final RuntimeException e) {
+            return new RunResult(args, FAILURE, null, e);
+        }
+    }
+
+    CompletableFuture<RunResult> runResultAsync(final String... args) {
+        final Object result;
+        try {
+            result = execute(InvocationContext.get(), args);
+        } catch(final ClinicGetHelpException e) {
+            return CompletableFuture.completedFuture(new RunResult(args, SUCCESS, null, e));
+        } catch(final RuntimeException e) {
+            return CompletableFuture.completedFuture(new RunResult(args, FAILURE, null, e));
+        }
+
+        if(!(result instanceof CompletionStage)) {
+            return CompletableFuture.completedFuture(new RunResult(args, SUCCESS, result, null));
+        }
+
+        final CompletableFuture<RunResult> future = new CompletableFuture<>();
+        ((CompletionStage<?>)result).whenComplete((final Object value, final Throwable error) -> {
+            future.complete(error != null ? new RunResult(args, FAILURE, null, failure(error)) : new RunResult(args, SUCCESS, value, null));
+        });
+        return future;
+    }
+
+    /**
+     * Runs an interactive shell that reads command lines from {@link java.lang.System#in} and runs them one after another, so the application is
+     * only built once and the JIT stays warm between commands. Help prompts and errors are printed to {@link java.lang.System#out} like
+     * {@link #run(String...)} prints them, and an exception thrown by a command is printed instead of ending the shell.
+     *
+     * Lines starting with : are commands for the shell itself: :help lists them, :time turns reporting how long each command takes on or off, and
+     * :exit or :quit leaves the shell. The shell also ends at the end of stdin.
+     *
+     * @return the exit code of the last command the shell ran
+     * @since 1.0.0
+     */
+    public int shell() {
+        return Shell.run(this, new String[] {Common.SHELL_OPTION});
+    }
+
+    private String renderApplicationHelp() {
+        final String newLine = System.lineSeparator();
+        final Command.Declaration[] sorted = commands.values().toArray(new Command.Declaration[commands.size()]);
+        Arrays.sort(sorted, (final Command.Declaration one, final Command.Declaration two) -> one.getName().compareTo(two.getName()));
+
+        int maxLength = 0;
+        int length = 0;
+        for(final Command.Declaration command : sorted) {
+            maxLength = Math.max(maxLength, command.getName().length());
+            length += command.getName().length() + (command.getHelp() != null ? command.getHelp().length() : 0);
+        }
+
+        final StringBuilder builder = new StringBuilder(length + sorted.length * (maxLength + 8) + 256);
+        builder.append(newLine);
+        builder.append("Usage:  ").append(executableName).append(" COMMAND").append(newLine);
+        builder.append(newLine);
+        if(help != null) {
+            builder.append(help).append(newLine);
+            builder.append(newLine);
+        }
+
+        if(sorted.length > 0) {
+            builder.append("Commands:").append(newLine);
+            for(final Command.Declaration command : sorted) {
+                builder.append("  ").append(command.getName());
+                if(command.getHelp() != null) {
+                    for(int i = command.getName().length(); i < maxLength; i++) {
+                        builder.append(' ');
+                    }
+                    builder.append("   ").append(command.getHelp());
+                }
+                builder.append(newLine);
+            }
+            builder.append(newLine);
+            builder.append("Run '").append(executableName).append(" COMMAND --help' for more information on a command.").append(newLine);
+            builder.append(newLine);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,90 @@
+package com.merakianalytics.clinic;
+
+/**
+ * A range of the command line arguments, used to hand an option's arguments to its converter without copying them out of the argument array.
+ * Quoted arguments are unquoted as they're read, so only conversions that need the arguments as a String[] ever copy them.
+ */
+final class ArgumentWindow {
+    private String[] arguments;
+    private int length;
+    private int offset;
+    private boolean quoted;
+
+    ArgumentWindow() {}
+
+    /**
+     * @param arguments
+     *        the arguments
+     * @param offset
+     *        the index of the first argument in the window
+     * @param length
+     *        the number of arguments in the window
+     * @param quoted
+     *        whether the arguments came from the command line and may be quoted
+     */
+    ArgumentWindow(final String[] arguments, final int offset, final int length, final boolean quoted) {
+        set(arguments, offset, length, quoted);
+    }
+
+    /**
+     * @param index
+     *        the index of the argument in the window
+     * @return the argument, without surrounding quotes
+     */
+    String get(final int index) {
+        final String argument = arguments[offset + index];
+        return quoted && argument != null ? Command.unquote(argument) : argument;
+    }
+
+    /**
+     * @return the number of arguments in the window
+     */
+    int length() {
+        return length;
+    }
+
+    /**
+     * Moves the window, so one window can be reused for each option while parsing
+     *
+     * @param arguments
+     *        the arguments
+     * @param offset
+     *        the index of the first argument in the window
+     * @param length
+     *        the number of arguments in the window
+     * @param quoted
+     *        whether the arguments came from the command line and may be quoted
+     * @return this window
+     */
+    ArgumentWindow set(final String[] arguments, final int offset, final int length, final boolean quoted) {
+        this.arguments = arguments;
+        this.offset = offset;
+        this.length = length;
+        this.quoted = quoted;
+        return this;
+    }
+
+    /**
+     * @return a new array of the arguments, without surrounding quotes
+     */
+    String[] toArray() {
+        final String[] values = new String[length];
+        if(!quoted) {
+            System.arraycopy(arguments, offset, values, 0, length);
+            return values;
+        }
+        for(int i = 0; i < length; i++) {
+            values[i] = get(i);
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for(int i = 0; i < length; i++) {
+            builder.append(i > 0 ? " " : "").append(get(i));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,195 @@
+package com.merakianalytics.clinic;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs an application once for each line of a batch file, or of stdin, inside one JVM. Each line is a full command line, tokenized by
+ * {@link com.merakianalytics.clinic.Common#tokenize(String)}. Blank lines and lines starting with # are skipped.
+ *
+ * Help prompts and error messages are printed in the order of the lines they came from, like running each line would print them, and a summary of
+ * the failures is printed at the end. The exit code is 0 if every line succeeded and 1 otherwise.
+ */
+final class Batch {
+    // Lines that parse into invocations, along with their line numbers for reporting failures
+    private static class Lines implements Iterator<String[]> {
+        private String[] next;
+        private int number;
+        private final int[] numbers;
+        private int polled;
+        private int pushed;
+        private final BufferedReader reader;
+
+        Lines(final BufferedReader reader, final int window) {
+            this.reader = reader;
+            numbers = new int[window + 1];
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while(next == null) {
+                    final String line = reader.readLine();
+                    if(line == null) {
+                        return false;
+                    }
+                    number++;
+
+                    final String trimmed = line.trim();
+                    if(!trimmed.isEmpty() && trimmed.charAt(0) != '#') {
+                        next = Common.tokenize(trimmed);
+                    }
+                }
+                return true;
+            } catch(final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public String[] next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final String[] next = this.next;
+            this.next = null;
+            numbers[pushed++ % numbers.length] = number;
+            return next;
+        }
+
+        // Results come back in the order the lines were read, and no more than the window are in flight, so the numbers fit in a ring
+        int poll() {
+            return numbers[polled++ % numbers.length];
+        }
+    }
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int FAILURE = 1;
+    private static final int REPORTED_FAILURES = 10;
+    private static final String STDIN = "-";
+    private static final int SUCCESS = 0;
+
+    private static BufferedReader open(final String file) throws IOException {
+        if(STDIN.equals(file)) {
+            return new BufferedReader(Channels.newReader(Channels.newChannel(System.in), StandardCharsets.UTF_8.newDecoder(), -1), BUFFER_SIZE);
+        }
+        return new BufferedReader(Channels.newReader(FileChannel.open(Paths.get(file), StandardOpenOption.READ), StandardCharsets.UTF_8.newDecoder(), -1),
+            BUFFER_SIZE);
+    }
+
+    /**
+     * @param application
+     *        the application to run each line with
+     * @param args
+     *        the command line arguments, starting with {@link com.merakianalytics.clinic.Common#BATCH_OPTION}
+     * @return the exit code of the batch
+     */
+    static int run(final Application application, final String[] args) {
+        final String newLine = System.lineSeparator();
+        final String usage = newLine + "Usage:  " + application.getExecutableName() + " " + Common.BATCH_OPTION + " FILE [" + Common.THREADS_OPTION
+            + " THREADS]" + newLine + newLine + "Runs each line of FILE, or of stdin if FILE is -, as a command." + newLine;
+
+        String file = null;
+        int threads = 1;
+        for(int i = 1; i < args.length; i++) {
+            if(Common.THREADS_OPTION.equals(args[i]) && i + 1 < args.length) {
+                try {
+                    threads = Integer.parseInt(args[++i]);
+                } catch(final NumberFormatException e) {
+                    threads = 0;
+                }
+                if(threads < 1) {
+                    System.out.print("The number of threads must be a positive integer!" + newLine + usage);
+                    return FAILURE;
+                }
+            } else if(Common.HELP_OPTION.equals(args[i])) {
+                System.out.print(usage);
+                return SUCCESS;
+            } else if(file == null) {
+                file = args[i];
+            } else {
+                System.out.print("Unexpected argument: " + args[i] + "!" + newLine + usage);
+                return FAILURE;
+            }
+        }
+        if(file == null) {
+            System.out.print("No batch file was provided!" + newLine + usage);
+            return FAILURE;
+        }
+
+        final ExecutorService service = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+        final Executor executor = service != null ? service : Runnable::run;
+        final BufferedReader reader;
+        try {
+            reader = open(file);
+        } catch(final IOException e) {
+            System.out.print("Couldn't read batch file " + file + ": " + e + newLine);
+            return FAILURE;
+        }
+
+        final Lines lines = new Lines(reader, Application.DEFAULT_WINDOW);
+        final int[] reported = new int[REPORTED_FAILURES];
+        final int[] counts = new int[2];
+        try {
+            application.runAll(() -> lines, executor, Application.DEFAULT_WINDOW, (final RunResult result) -> {
+                final int number = lines.poll();
+                counts[0]++;
+                if(result.getExitCode() != SUCCESS) {
+                    if(counts[1] < REPORTED_FAILURES) {
+                        reported[counts[1]] = number;
+                    }
+                    counts[1]++;
+                    System.out.print("Line " + number + " failed: " + String.join(" ", result.getArgs()) + newLine);
+                }
+                if(result.getMessage() != null) {
+                    System.out.print(result.getMessage());
+                } else if(result.getError() != null) {
+                    System.out.print(result.getError() + newLine);
+                }
+            });
+        } catch(final UncheckedIOException e) {
+            System.out.print("Couldn't read batch file " + file + ": " + e.getCause() + newLine);
+            return FAILURE;
+        } finally {
+            if(service != null) {
+                service.shutdown();
+            }
+            if(!STDIN.equals(file)) {
+                try {
+                    reader.close();
+                } catch(final IOException e) {
+                    // Everything has been read already
+                }
+            }
+        }
+
+        if(counts[1] == 0) {
+            return SUCCESS;
+        }
+
+        final StringBuilder summary = new StringBuilder();
+        summary.append(counts[1]).append(" of ").append(counts[0]).append(counts[0] > 1 ? " commands" : " command").append(" failed, on line");
+        summary.append(counts[1] > 1 ? "s " : " ").append(reported[0]);
+        for(int i = 1; i < Math.min(counts[1], REPORTED_FAILURES); i++) {
+            summary.append(", ").append(reported[i]);
+        }
+        if(counts[1] > REPORTED_FAILURES) {
+            summary.append(" and ").append(counts[1] - REPORTED_FAILURES).append(" more");
+        }
+        System.out.print(summary.append(newLine).toString());
+        return FAILURE;
+    }
+
+    private Batch() {}
+}
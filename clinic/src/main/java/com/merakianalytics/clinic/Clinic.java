@@ -3,19 +3,18 @@ package com.merakianalytics.clinic;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.merakianalytics.clinic.exceptions.ClinicAnnotationException;
-import com.merakianalytics.clinic.exceptions.ClinicGetHelpException;
-import com.merakianalytics.clinic.exceptions.ClinicParseException;
+import com.merakianalytics.clinic.exceptions.ClinicException;
 
 /**
  * The main entry point to the clinic command line parsing library. Use {@code Clinic.cli(YourClass.class)} from your main to get started.
@@ -35,12 +34,18 @@ public abstract class Clinic {
         private static final boolean DEFAULT_AUTOMATIC = false;
         private static final String DEFAULT_EXECUTABLE_NAME = "program";
         private static final String DEFAULT_HELP = null;
+        private static final boolean DEFAULT_REGISTRY = true;
+        private static final boolean DEFAULT_VALIDATE = false;
+        private static final boolean DEFAULT_VIRTUAL_THREADS = false;
 
         private String[] args = DEFAULT_ARGS;
         private boolean automatic = DEFAULT_AUTOMATIC;
         private final Class<?> clazz;
         private String executableName = DEFAULT_EXECUTABLE_NAME;
         private String help = DEFAULT_HELP;
+        private boolean registry = DEFAULT_REGISTRY;
+        private boolean validate = DEFAULT_VALIDATE;
+        private boolean virtualThreads = DEFAULT_VIRTUAL_THREADS;
 
         private Builder(final Class<?> clazz) {
             this.clazz = clazz;
@@ -86,19 +91,31 @@ public abstract class Clinic {
         }
 
         /**
-         * Runs the clinic application in a new {@link java.lang.Thread} and provides a {@link java.util.concurrent.Future} to monitor the result
+         * Runs the clinic application in a new {@link java.lang.Thread} and provides a {@link java.util.concurrent.Future} to monitor the result. If the
+         * command returns a {@link java.util.concurrent.CompletionStage}, the thread ends when the command returns, and the future completes when the
+         * stage does. The thread is virtual if {@link #virtualThreads()} is set.
          *
          * @return a {@link java.util.concurrent.Future} that will provide the exit code of the clinic application
+         * @see com.merakianalytics.clinic.Application#runAsync(String...)
          * @since 1.0.0
          */
         public Future<Integer> await() {
             final CompletableFuture<Integer> future = new CompletableFuture<>();
-            new Thread(() -> {
-                future.complete(Clinic.run(clazz, args, executableName, help, automatic));
-            }).start();
+            Threads.newThread(Clinic.getAsyncRunnable(clazz, args, executableName, help, automatic, registry, validate, future), virtualThreads).start();
             return future;
         }
 
+        /**
+         * Compiles the clinic application, resolving its commands and options once so it can be run many times without rebuilding them. Every command
+         * is built and validated, regardless of {@link #validate(boolean)}.
+         *
+         * @return the compiled {@link com.merakianalytics.clinic.Application}
+         * @since 1.0.0
+         */
+        public Application compile() {
+            return Clinic.compile(clazz, executableName, help, automatic, registry, true);
+        }
+
         /**
          * Sets the intended executable name that will be used to launch your Java application once it is deployed. This will be used as part of the --help
          * prompt.
@@ -121,7 +138,7 @@ public abstract class Clinic {
          * @since 1.0.0
          */
         public void execute(final Executor executor) {
-            executor.execute(Clinic.getRunnable(clazz, args, executableName, help, automatic));
+            executor.execute(Clinic.getRunnable(clazz, args, executableName, help, automatic, registry, validate));
         }
 
         /**
@@ -131,17 +148,18 @@ public abstract class Clinic {
          * @since 1.0.0
          */
         public Runnable getRunnable() {
-            return Clinic.getRunnable(clazz, args, executableName, help, automatic);
+            return Clinic.getRunnable(clazz, args, executableName, help, automatic, registry, validate);
         }
 
         /**
-         * Gets an un-started {@link java.lang.Thread} that executes the clinic application when run
+         * Gets an un-started {@link java.lang.Thread} that executes the clinic application when run. The thread is virtual if {@link #virtualThreads()}
+         * is set.
          *
          * @return an un-started {@link java.lang.Thread} that executes the clinic application when run
          * @since 1.0.0
          */
         public Thread getThread() {
-            return new Thread(Clinic.getRunnable(clazz, args, executableName, help, automatic));
+            return Threads.newThread(Clinic.getRunnable(clazz, args, executableName, help, automatic, registry, validate), virtualThreads);
         }
 
         /**
@@ -170,6 +188,20 @@ public abstract class Clinic {
             return this;
         }
 
+        /**
+         * Sets whether clinic should use the registry generated for your cli class by the clinic-processor annotation processor, if one exists. Using
+         * the registry avoids scanning your cli class for commands. Registries are never used for automatic applications. Defaults to true.
+         *
+         * @param registry
+         *        whether to use the generated registry
+         * @return the application builder
+         * @since 1.0.0
+         */
+        public Builder registry(final boolean registry) {
+            this.registry = registry;
+            return this;
+        }
+
         /**
          * Runs the clinic application
          *
@@ -177,11 +209,60 @@ public abstract class Clinic {
          * @since 1.0.0
          */
         public int run() {
-            return Clinic.run(clazz, args, executableName, help, automatic);
+            return Clinic.run(clazz, args, executableName, help, automatic, registry, validate);
         };
 
         /**
-         * Runs the clinic application in a new {@link java.lang.Thread}
+         * Runs the clinic application once for each of the provided command line arguments, in parallel on the provided
+         * {@link java.util.concurrent.Executor}. The application is built once and shared by every invocation, and the arguments set by
+         * {@link #args(String[])} are ignored.
+         *
+         * @param invocations
+         *        the command line arguments of each invocation
+         * @param executor
+         *        the {@link java.util.concurrent.Executor} to run the invocations on
+         * @return the result of each invocation, in the order the invocations were provided
+         * @see com.merakianalytics.clinic.Application#runAll(Iterable, Executor)
+         * @since 1.0.0
+         */
+        public List<RunResult> runAll(final Iterable<String[]> invocations, final Executor executor) {
+            return Clinic.compile(clazz, executableName, help, automatic, registry, validate).runAll(invocations, executor);
+        }
+
+        /**
+         * Runs the clinic application once for each of the provided command line arguments, in parallel on the provided
+         * {@link java.util.concurrent.Executor}, handing the results to the consumer in order with at most window invocations in flight. The
+         * application is built once and shared by every invocation, and the arguments set by {@link #args(String[])} are ignored.
+         *
+         * @param invocations
+         *        the command line arguments of each invocation
+         * @param executor
+         *        the {@link java.util.concurrent.Executor} to run the invocations on
+         * @param window
+         *        the most invocations to have in flight at once
+         * @param consumer
+         *        the consumer to hand each result to
+         * @see com.merakianalytics.clinic.Application#runAll(Iterable, Executor, int, Consumer)
+         * @since 1.0.0
+         */
+        public void runAll(final Iterable<String[]> invocations, final Executor executor, final int window, final Consumer<? super RunResult> consumer) {
+            Clinic.compile(clazz, executableName, help, automatic, registry, validate).runAll(invocations, executor, window, consumer);
+        }
+
+        /**
+         * Runs an interactive shell for the clinic application, which reads command lines from {@link java.lang.System#in} and runs them one after
+         * another against an application that's only built once. The arguments set by {@link #args(String[])} are ignored.
+         *
+         * @return the exit code of the last command the shell ran
+         * @see com.merakianalytics.clinic.Application#shell()
+         * @since 1.0.0
+         */
+        public int shell() {
+            return Clinic.compile(clazz, executableName, help, automatic, registry, validate).shell();
+        }
+
+        /**
+         * Runs the clinic application in a new {@link java.lang.Thread}, which is virtual if {@link #virtualThreads()} is set
          *
          * @return the {@link java.lang.Thread} that is running the clinic application
          * @since 1.0.0
@@ -193,20 +274,76 @@ public abstract class Clinic {
         }
 
         /**
-         * Executes the clinic application using the proviced {@link java.util.concurrent.ExecutorService}
+         * Executes the clinic application using the proviced {@link java.util.concurrent.ExecutorService}. If the command returns a
+         * {@link java.util.concurrent.CompletionStage}, the service's thread is freed when the command returns, and the future completes when the stage
+         * does.
          *
          * @param service
          *        the {@link java.util.concurrent.ExecutorService} to use
          * @return a {@link java.util.concurrent.Future} that will provide the exit code of the clinic application
+         * @see com.merakianalytics.clinic.Application#runAsync(String...)
          * @since 1.0.0
          */
         public Future<Integer> submit(final ExecutorService service) {
-            return service.submit(Clinic.getCallable(clazz, args, executableName, help, automatic));
+            final CompletableFuture<Integer> future = new CompletableFuture<>();
+            service.execute(Clinic.getAsyncRunnable(clazz, args, executableName, help, automatic, registry, validate, future));
+            return future;
         }
-    }
 
-    private static final int FAILURE = 1;
-    private static final int SUCCESS = 0;
+        /**
+         * Sets clinic to build and validate every command when the application runs, instead of only the command the arguments select. Use it in
+         * tests so misconfigured annotations on any command are reported.
+         *
+         * @return the application builder
+         * @since 1.0.0
+         */
+        public Builder validate() {
+            validate = true;
+            return this;
+        }
+
+        /**
+         * Sets whether clinic should build and validate every command when the application runs. By default, running the application only indexes
+         * commands by name and builds the command the arguments select, so misconfigured annotations on other commands aren't reported. Applications
+         * from {@link #compile()} are always validated. Defaults to false.
+         *
+         * @param validate
+         *        whether to build and validate every command
+         * @return the application builder
+         * @since 1.0.0
+         */
+        public Builder validate(final boolean validate) {
+            this.validate = validate;
+            return this;
+        }
+
+        /**
+         * Sets clinic to run the application on a virtual {@link java.lang.Thread} in {@link #await()}, {@link #getThread()} and {@link #start()}, so
+         * thousands of invocations that block on I/O don't need a platform thread each. Virtual threads need Java 21; on older versions, platform
+         * threads are used.
+         *
+         * @return the application builder
+         * @since 1.0.0
+         */
+        public Builder virtualThreads() {
+            virtualThreads = true;
+            return this;
+        }
+
+        /**
+         * Sets whether clinic should run the application on a virtual {@link java.lang.Thread} in {@link #await()}, {@link #getThread()} and
+         * {@link #start()}. Virtual threads need Java 21; on older versions, platform threads are used. Defaults to false.
+         *
+         * @param virtualThreads
+         *        whether to use virtual threads
+         * @return the application builder
+         * @since 1.0.0
+         */
+        public Builder virtualThreads(final boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+    }
 
     /**
      * Creates a command line application based on the clinic-annotated methods defined in the provided class
@@ -220,114 +357,80 @@ public abstract class Clinic {
         return new Builder(clazz);
     }
 
-    private static String getApplicationHelp(final String executableName, final String help, final Collection<Command> commands) {
-        final StringBuilder builder = new StringBuilder(System.lineSeparator());
-        builder.append("Usage:  " + executableName + " COMMAND" + System.lineSeparator());
-        builder.append(System.lineSeparator());
-        if(help != null) {
-            builder.append(help + System.lineSeparator());
-            builder.append(System.lineSeparator());
-        }
-
-        if(commands.size() > 0) {
-            int max = 0;
-            for(final Command command : commands) {
-                if(command.getName().length() > max) {
-                    max = command.getName().length();
-                }
-            }
-            final int maxLength = max;
-
-            builder.append("Commands:" + System.lineSeparator());
-            commands.stream().sorted((final Command one, final Command two) -> one.getName().compareTo(two.getName()))
-                .forEachOrdered((final Command command) -> {
-                    builder.append("  " + command.getName());
-                    if(command.getHelp() != null) {
-                        final int buffer = maxLength - command.getName().length();
-                        for(int i = 0; i < buffer; i++) {
-                            builder.append(' ');
-                        }
-                        builder.append("   " + command.getHelp());
-                    }
-                    builder.append(System.lineSeparator());
-                });
-            builder.append(System.lineSeparator());
-            builder.append("Run '" + executableName + " COMMAND --help' for more information on a command." + System.lineSeparator());
-            builder.append(System.lineSeparator());
+    private static Application compile(final Class<?> clazz, final String executableName, final String help, final boolean automatic,
+        final boolean registry, final boolean validate) {
+        final Registry generated = !automatic && registry ? Registry.get(clazz) : null;
+
+        // Index the commands by name without building their options, and only build the ones that get used unless validating
+        final Map<String, Command.Declaration> commands;
+        if(generated != null) {
+            commands = Arrays.stream(generated.getEntries())
+                .map((final Registry.Entry entry) -> Command.Declaration.from(executableName, () -> getMethod(clazz, entry), entry))
+                .collect(Collectors.toMap(Command.Declaration::getName, Function.identity()));
+        } else {
+            commands = Arrays.stream(clazz.getDeclaredMethods()).filter((final Method method) -> {
+                return !method.isSynthetic() && Modifier.isStatic(method.getModifiers()) && !"main".equals(method.getName())
+                    && (automatic || method.isAnnotationPresent(com.merakianalytics.clinic.annotations.Command.class)
+                        || method.isAnnotationPresent(com.merakianalytics.clinic.annotations.AutoCommand.class));
+            }).map((final Method method) -> Command.Declaration.from(executableName, method))
+                .collect(Collectors.toMap(Command.Declaration::getName, Function.identity()));
         }
-        return builder.toString();
-    }
-
-    private static Callable<Integer> getCallable(final Class<?> clazz, final String[] args, final String executableName, final String help,
-        final boolean automatic) {
-        return () -> {
-            return Clinic.run(clazz, args, executableName, help, automatic);
-        };
-    }
-
-    private static Runnable getRunnable(final Class<?> clazz, final String[] args, final String executableName, final String help, final boolean automatic) {
-        return () -> {
-            Clinic.run(clazz, args, help, executableName, automatic);
-        };
-    }
-
-    private static int run(final Class<?> clazz, String[] args, final String executableName, final String help, final boolean automatic) {
-        final Map<String, Command> commands = Arrays.stream(clazz.getDeclaredMethods()).filter((final Method method) -> {
-            return !method.isSynthetic() && Modifier.isStatic(method.getModifiers()) && !"main".equals(method.getName())
-                && (automatic || method.isAnnotationPresent(com.merakianalytics.clinic.annotations.Command.class)
-                    || method.isAnnotationPresent(com.merakianalytics.clinic.annotations.AutoCommand.class));
-        }).map((final Method method) -> Command.get(executableName, method)).collect(Collectors.toMap(Command::getName, Function.identity()));
 
         if(commands.isEmpty()) {
             throw new ClinicAnnotationException("No @Commands were found in " + clazz.getSimpleName() + "!");
         }
 
+        if(validate) {
+            for(final Command.Declaration command : commands.values()) {
+                command.get();
+            }
+        }
+
         // If there is only one command specified, or a command is annotated as default, default to that.
-        Command command = commands.size() == 1 ? commands.values().iterator().next() : null;
+        Command.Declaration command = commands.size() == 1 ? commands.values().iterator().next() : null;
         if(command == null) {
-            final Command[] defaultCommands = commands.values().stream().filter(Command::isDefaultCommand).toArray(Command[]::new);
+            final Command.Declaration[] defaultCommands =
+                commands.values().stream().filter(Command.Declaration::isDefaultCommand).toArray(Command.Declaration[]::new);
             if(defaultCommands.length > 1) {
                 throw new ClinicAnnotationException("Multiple @Commands were designated as default commands! Only one command can be default.");
             }
             command = defaultCommands.length > 0 ? defaultCommands[0] : null;
         }
 
-        if(args.length > 0) {
-            if(Common.HELP_OPTION.equals(args[0])) {
-                System.out.print(getApplicationHelp(executableName, help, commands.values()));
-                return SUCCESS;
-            }
-
-            // If the first argument isn't an option or help, treat it as a command.
-            if(!args[0].startsWith("-")) {
-                if(!commands.keySet().contains(args[0])) {
-                    System.out.print("Unrecognized command: " + args[0] + "!" + System.lineSeparator());
-                    System.out.print(getApplicationHelp(executableName, help, commands.values()));
-                    return FAILURE;
-                }
+        return new Application(executableName, help, commands, command);
+    }
 
-                command = commands.get(args[0]);
-                args = Arrays.copyOfRange(args, 1, args.length);
+    private static Runnable getAsyncRunnable(final Class<?> clazz, final String[] args, final String executableName, final String help,
+        final boolean automatic, final boolean registry, final boolean validate, final CompletableFuture<Integer> future) {
+        return () -> {
+            try {
+                Application.complete(future, compile(clazz, executableName, help, automatic, registry, validate).runAsync(args));
+            } catch(final RuntimeException e) {
+                future.completeExceptionally(e);
             }
-        }
-
-        if(command == null) {
-            System.out.print("No command was provided!" + System.lineSeparator());
-            System.out.print(getApplicationHelp(executableName, help, commands.values()));
-            return FAILURE;
-        }
+        };
+    }
 
+    private static Method getMethod(final Class<?> clazz, final Registry.Entry entry) {
         try {
-            command.execute(args);
-            return SUCCESS;
-        } catch(final ClinicGetHelpException e) {
-            System.out.print(e.getMessage());
-            return SUCCESS;
-        } catch(final ClinicParseException e) {
-            System.out.print(e.getMessage());
-            return FAILURE;
+            return clazz.getDeclaredMethod(entry.getMethodName(), entry.getParameterTypes());
+        } catch(final NoSuchMethodException | SecurityException e) {
+            throw new ClinicException("The generated registry for " + clazz.getSimpleName() + " refers to a method " + entry.getMethodName()
+                + " that couldn't be found! Try rebuilding your application.", e);
         }
     }
 
+    private static Runnable getRunnable(final Class<?> clazz, final String[] args, final String executableName, final String help, final boolean automatic,
+        final boolean registry, final boolean validate) {
+        return () -> {
+            Clinic.run(clazz, args, executableName, help, automatic, registry, validate);
+        };
+    }
+
+    private static int run(final Class<?> clazz, final String[] args, final String executableName, final String help, final boolean automatic,
+        final boolean registry, final boolean validate) {
+        return compile(clazz, executableName, help, automatic, registry, validate).run(args);
+    }
+
     private Clinic() {}
 }
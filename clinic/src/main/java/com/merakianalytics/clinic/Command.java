@@ -1,55 +1,69 @@
 package com.merakianalytics.clinic;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import com.merakianalytics.clinic.exceptions.ClinicAnnotationException;
 import com.merakianalytics.clinic.exceptions.ClinicException;
-import com.merakianalytics.clinic.exceptions.ClinicGetHelpException;
-import com.merakianalytics.clinic.exceptions.ClinicParseException;
 
 /**
- * A clinic CLI command
+ * A clinic CLI command. Commands are immutable and safe to share between threads, and executions don't share mutable state: each one gets its own
+ * parameters and its own copies of array and Collection default values.
  */
 public class Command {
     private static class AnnotationData {
-        public static AnnotationData from(final Method method, final com.merakianalytics.clinic.annotations.AutoCommand annotation) {
-            final String name = Default.STRING.equals(annotation.name()) ? Common.toHypenCase(method.getName()) : annotation.name();
+        public static AnnotationData from(final Method method, final com.merakianalytics.clinic.annotations.AutoCommand annotation,
+            final Registry.Entry entry) {
+            final String name = Default.STRING.equals(annotation.name()) ? getDefaultName(method, entry) : annotation.name();
             final String help = Default.STRING.equals(annotation.help()) ? null : annotation.help();
             final boolean defaultCommand = annotation.defaultCommand();
-            final Option[] options = getOptions(method, true);
+            final Option[] options = getOptions(method, true, entry);
 
             return new AnnotationData(name, help, defaultCommand, options);
         }
 
-        public static AnnotationData from(final Method method, final com.merakianalytics.clinic.annotations.Command annotation) {
+        public static AnnotationData from(final Method method, final com.merakianalytics.clinic.annotations.Command annotation,
+            final Registry.Entry entry) {
             final boolean automatic = annotation.automatic();
-            final String name = Default.STRING.equals(annotation.name()) ? Common.toHypenCase(method.getName()) : annotation.name();
+            final String name = Default.STRING.equals(annotation.name()) ? getDefaultName(method, entry) : annotation.name();
             final String help = Default.STRING.equals(annotation.help()) ? null : annotation.help();
             final boolean defaultCommand = annotation.defaultCommand();
-            final Option[] options = getOptions(method, automatic);
+            final Option[] options = getOptions(method, automatic, entry);
 
             return new AnnotationData(name, help, defaultCommand, options);
         }
 
-        private static Option[] getOptions(final Method method, final boolean automatic) {
-            return Arrays.stream(method.getParameters()).map((final Parameter parameter) -> {
-                if(!parameter.isAnnotationPresent(com.merakianalytics.clinic.annotations.Option.class) && !automatic) {
+        private static String getDefaultName(final Method method, final Registry.Entry entry) {
+            return entry == null ? Common.toHypenCase(method.getName()) : entry.getName();
+        }
+
+        private static Option[] getOptions(final Method method, final boolean automatic, final Registry.Entry entry) {
+            final Parameter[] parameters = method.getParameters();
+            final Option[] options = new Option[parameters.length];
+            for(int i = 0; i < parameters.length; i++) {
+                if(!parameters[i].isAnnotationPresent(com.merakianalytics.clinic.annotations.Option.class) && !automatic) {
                     throw new ClinicAnnotationException(method.getName()
                         + " is a @Command but has parameters without @Option annotations! Either add @Option annotations to its parameters or make it an automatic command by setting automatic = true or using @AutoCommand instead!");
                 }
-                return Option.get(method, parameter);
-            }).toArray(Option[]::new);
+                options[i] = Option.get(method, parameters[i], entry == null ? null : entry.getOptionNames()[i]);
+            }
+            return options;
         }
 
         public boolean defaultCommand;
@@ -65,6 +79,89 @@ public class Command {
         }
     }
 
+    /**
+     * A command's name, help, and whether it's the default command, read from its annotations or generated registry entry without building its
+     * options. The {@link com.merakianalytics.clinic.Command} itself is built the first time it's needed, so an application only pays to build the
+     * commands it runs.
+     */
+    static final class Declaration {
+        public static Declaration from(final String executableName, final Method method) {
+            final String name;
+            final String help;
+            final boolean defaultCommand;
+            if(method.isAnnotationPresent(com.merakianalytics.clinic.annotations.Command.class)) {
+                final com.merakianalytics.clinic.annotations.Command annotation = method.getAnnotation(com.merakianalytics.clinic.annotations.Command.class);
+                name = annotation.name();
+                help = annotation.help();
+                defaultCommand = annotation.defaultCommand();
+            } else {
+                final com.merakianalytics.clinic.annotations.AutoCommand annotation =
+                    method.isAnnotationPresent(com.merakianalytics.clinic.annotations.AutoCommand.class)
+                        ? method.getAnnotation(com.merakianalytics.clinic.annotations.AutoCommand.class) : Default.command(method);
+                name = annotation.name();
+                help = annotation.help();
+                defaultCommand = annotation.defaultCommand();
+            }
+
+            return new Declaration(executableName, () -> method, null, Default.STRING.equals(name) ? AnnotationData.getDefaultName(method, null) : name,
+                Default.STRING.equals(help) ? null : help, defaultCommand);
+        }
+
+        public static Declaration from(final String executableName, final Supplier<Method> method, final Registry.Entry entry) {
+            return new Declaration(executableName, method, entry, entry.getName(), entry.getHelp(), entry.isDefaultCommand());
+        }
+
+        private volatile Command command;
+        private final boolean defaultCommand;
+        private final Registry.Entry entry;
+        private final String executableName;
+        private final String help;
+        private final Supplier<Method> method;
+        private final String name;
+
+        private Declaration(final String executableName, final Supplier<Method> method, final Registry.Entry entry, final String name, final String help,
+            final boolean defaultCommand) {
+            this.executableName = executableName;
+            this.method = method;
+            this.entry = entry;
+            this.name = name;
+            this.help = help;
+            this.defaultCommand = defaultCommand;
+        }
+
+        /**
+         * Builds the command the first time it's called, validating its annotations, and returns the same command after that. Building is
+         * thread-safe and happens at most once unless it fails.
+         *
+         * @return the command
+         */
+        public Command get() {
+            Command command = this.command;
+            if(command == null) {
+                synchronized(this) {
+                    command = this.command;
+                    if(command == null) {
+                        command = Command.get(executableName, method.get(), entry);
+                        this.command = command;
+                    }
+                }
+            }
+            return command;
+        }
+
+        public String getHelp() {
+            return help;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isDefaultCommand() {
+            return defaultCommand;
+        }
+    }
+
     /**
      * Gets a {@link com.merakianalytics.clinic.Command} from a {@link com.merakianalytics.clinic.annotations.Command}-annotated
      * {@link java.lang.reflect.Method}
@@ -76,6 +173,10 @@ public class Command {
      * @return the {@link com.merakianalytics.clinic.Command} specified by the {@link java.lang.reflect.Method} and its clinic annotations
      */
     public static Command get(final String executableName, final Method method) {
+        return get(executableName, method, null);
+    }
+
+    static Command get(final String executableName, final Method method, final Registry.Entry entry) {
         if(!Modifier.isStatic(method.getModifiers())) {
             throw new ClinicAnnotationException(
                 "Found an @Command annotation on " + method.getName() + ", but the method is not static. All @Command methods must be static.");
@@ -83,11 +184,11 @@ public class Command {
 
         final AnnotationData annotationData;
         if(method.isAnnotationPresent(com.merakianalytics.clinic.annotations.Command.class)) {
-            annotationData = AnnotationData.from(method, method.getAnnotation(com.merakianalytics.clinic.annotations.Command.class));
+            annotationData = AnnotationData.from(method, method.getAnnotation(com.merakianalytics.clinic.annotations.Command.class), entry);
         } else if(method.isAnnotationPresent(com.merakianalytics.clinic.annotations.AutoCommand.class)) {
-            annotationData = AnnotationData.from(method, method.getAnnotation(com.merakianalytics.clinic.annotations.AutoCommand.class));
+            annotationData = AnnotationData.from(method, method.getAnnotation(com.merakianalytics.clinic.annotations.AutoCommand.class), entry);
         } else {
-            annotationData = AnnotationData.from(method, Default.command(method));
+            annotationData = AnnotationData.from(method, Default.command(method), entry);
         }
 
         // Verify there aren't any duplicate option names
@@ -104,7 +205,18 @@ public class Command {
             }
         }
 
-        return new Command(method, annotationData.name, executableName, annotationData.help, annotationData.defaultCommand, annotationData.options);
+        return new Command(method, annotationData.name, executableName, annotationData.help, annotationData.defaultCommand, annotationData.options,
+            entry == null ? null : entry.getInvoker());
+    }
+
+    private static MethodHandle getHandle(final Method method) {
+        try {
+            return MethodHandles.lookup().unreflect(method).asFixedArity().asSpreader(Object[].class, method.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch(final IllegalAccessException e) {
+            // Leave it to Method.invoke to report
+            return null;
+        }
     }
 
     private static String toString(final Object object) {
@@ -115,7 +227,7 @@ public class Command {
             final StringBuilder builder = new StringBuilder();
             final int length = Array.getLength(object);
             for(int i = 0; i < length; i++) {
-                builder.append(", " + Array.get(object, i).toString());
+                builder.append(", ").append(Array.get(object, i).toString());
             }
             return builder.substring(length > 0 ? 2 : 0);
         }
@@ -123,14 +235,14 @@ public class Command {
             final Collection<?> collection = (Collection<?>)object;
             final StringBuilder builder = new StringBuilder();
             for(final Object item : collection) {
-                builder.append(", " + item);
+                builder.append(", ").append(item);
             }
             return builder.substring(collection.size() > 0 ? 2 : 0);
         }
         return object.toString();
     }
 
-    private static String unquote(final String string) {
+    static String unquote(final String string) {
         if(string.charAt(0) == '\'' && string.charAt(string.length() - 1) == '\'' ||
             string.charAt(0) == '"' && string.charAt(string.length() - 1) == '"') {
             return string.substring(1, string.length() - 1);
@@ -138,21 +250,66 @@ public class Command {
         return string;
     }
 
+    private String commandHelp;
+    private final int[] copied;
     private final boolean defaultCommand;
     private final String executableName;
+    private final MethodHandle handle;
     private final String help;
+    private final Map<String, Integer> indexes;
+    private final Registry.Invoker invoker;
     private final Method method;
     private final String name;
     private final Option[] options;
+    private final long required;
 
     private Command(final Method method, final String name, final String executableName, final String help, final boolean defaultCommand,
-        final Option[] options) {
+        final Option[] options, final Registry.Invoker invoker) {
         this.method = method;
         this.name = name;
         this.executableName = executableName;
         this.help = help;
         this.defaultCommand = defaultCommand;
         this.options = options;
+        this.invoker = invoker;
+        handle = getHandle(method);
+
+        // Index the names options might be referred to by and mark which of the first 64 options are required
+        final Map<String, Integer> indexes = new HashMap<>();
+        long required = 0L;
+        for(int i = 0; i < options.length; i++) {
+            if(options[i].isRequired() && i < Long.SIZE) {
+                required |= 1L << i;
+            }
+            for(final String n : options[i].getNames()) {
+                indexes.put(n, i);
+            }
+        }
+        this.indexes = Collections.unmodifiableMap(indexes);
+        this.required = required;
+
+        // Mark which options have mutable defaults that each execution needs its own copy of
+        int count = 0;
+        for(final Option option : options) {
+            if(option.copiesDefaultValue()) {
+                count++;
+            }
+        }
+        copied = new int[count];
+        for(int i = 0, j = 0; i < options.length; i++) {
+            if(options[i].copiesDefaultValue()) {
+                copied[j++] = i;
+            }
+        }
+    }
+
+    private void copyDefaults(final Object[] parameters) {
+        for(final int i : copied) {
+            final Object defaultValue = options[i].getDefaultValue();
+            if(parameters[i] == defaultValue) {
+                parameters[i] = options[i].copyDefaultValue(defaultValue);
+            }
+        }
     }
 
     /**
@@ -174,56 +331,192 @@ public class Command {
      * @return the result of executing the command with the provided option values
      */
     public Object execute(final String... arguments) {
-        final Object[] parameters = new Object[options.length];
+        return execute(arguments, 0);
+    }
 
-        // Set the default values for parameters
-        // Get the set of required options
-        // Get all the names options might be referred to by and which parameter index they map to
-        final Map<String, Integer> indexes = new HashMap<>();
-        final Set<Option> required = new HashSet<>();
-        for(int i = 0; i < options.length; i++) {
-            if(options[i] == null) {
-                parameters[i] = Default.value(method.getParameters()[i].getType());
-                continue;
+    /**
+     * Executes this command with the provided option values, reusing the buffers in an {@link com.merakianalytics.clinic.InvocationContext} instead
+     * of allocating new ones. Help requests and errors are reported the same way as {@link #execute(String...)} and allocate as usual.
+     *
+     * @param context
+     *        the buffers to use, or null to allocate new ones
+     * @param arguments
+     *        the arguments passed to this command
+     * @return the result of executing the command with the provided option values
+     * @since 1.0.0
+     */
+    public Object execute(final InvocationContext context, final String... arguments) {
+        return execute(context, arguments, 0);
+    }
+
+    Object execute(final InvocationContext context, final String[] arguments, final int start) {
+        // Generated invokers already bind parameters to locals without allocating
+        if(context == null || invoker != null) {
+            return execute(arguments, start);
+        }
+
+        final Object[] parameters = context.parameters(options.length);
+        try {
+            final ParseResult error = parse(arguments, start, parameters, context.window());
+            if(error != null) {
+                return error.execute();
             }
+            return invoke(parameters);
+        } finally {
+            // Don't keep the values alive until the buffer is next used
+            Arrays.fill(parameters, null);
+        }
+    }
+
+    Object execute(final String[] arguments, final int start) {
+        return invoker != null ? invoker.invoke(this, arguments, start) : executeReflectively(arguments, start);
+    }
+
+    Object executeReflectively(final String[] arguments, final int start) {
+        return parse(arguments, start).execute();
+    }
+
+    private String getCommandHelp() {
+        // Racing threads may both render the help, but they render the same string
+        String commandHelp = this.commandHelp;
+        if(commandHelp == null) {
+            commandHelp = renderCommandHelp();
+            this.commandHelp = commandHelp;
+        }
+        return commandHelp;
+    }
+
+    /**
+     * @return the help message for the command
+     */
+    public String getHelp() {
+        return help;
+    }
+
+    /**
+     * @return the method that the command calls
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the name of the command
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the options the command has
+     */
+    public Option[] getOptions() {
+        return options;
+    }
 
-            if(options[i].isRequired()) {
-                required.add(options[i]);
+    Object invoke(final Object[] parameters) {
+        if(handle == null) {
+            return invokeReflectively(parameters);
+        }
+
+        try {
+            return (Object)handle.invokeExact(parameters);
+        } catch(final RuntimeException e) {
+            throw e;
+        } catch(final Throwable e) {
+            throw new RuntimeException(null, e);
+        }
+    }
+
+    private Object invokeReflectively(final Object[] parameters) {
+        try {
+            return method.invoke(null, parameters);
+        } catch(final IllegalAccessException e) {
+            throw new ClinicException("Couldn't get access to " + method.getName() + "! Check its access modifiers and ensure it is visible to clinic.", e);
+        } catch(final IllegalArgumentException e) {
+            throw new ClinicException("Something unexpected went wrong calling " + getName() + ". Report this to the clinic team.", e);
+        } catch(final InvocationTargetException e) {
+            final Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
             }
+            throw new RuntimeException(null, cause);
+        }
+    }
+
+    /**
+     * @return whether the command is the default command to use if none is specified
+     */
+    public boolean isDefaultCommand() {
+        return defaultCommand;
+    }
 
+    /**
+     * Parses arguments for this command without executing it. Nothing is thrown for bad arguments or --help; the result describes what happened
+     * instead.
+     *
+     * @param arguments
+     *        the arguments passed to this command
+     * @return the parameters bound for the command, a help request, or a description of what was wrong with the arguments
+     * @since 1.0.0
+     */
+    public ParseResult parse(final String... arguments) {
+        return parse(arguments, 0);
+    }
+
+    ParseResult parse(final String[] arguments, final int start) {
+        final Object[] parameters = new Object[options.length];
+        final ParseResult error = parse(arguments, start, parameters, new ArgumentWindow());
+        return error != null ? error : ParseResult.success(this, parameters);
+    }
+
+    // Binds the parameters in place and returns null if parsing succeeded, so executing with an InvocationContext doesn't allocate a result
+    private ParseResult parse(final String[] arguments, final int start, final Object[] parameters, final ArgumentWindow window) {
+        for(int i = 0; i < options.length; i++) {
             parameters[i] = options[i].getDefaultValue();
-            for(final String name : options[i].getNames()) {
-                indexes.put(name, i);
-            }
         }
 
+        // Clear an option's bit once it's been seen. Any bits left at the end are missing required options.
+        long missing = required;
+        final boolean[] found = options.length > Long.SIZE ? new boolean[options.length] : null;
+
         // Parse option values from arguments
         Option lastOption = null;
         String lastName = null;
-        for(int i = 0; i < arguments.length; i++) {
+        for(int i = start; i < arguments.length; i++) {
             if(Common.HELP_OPTION.equals(arguments[i])) {
-                throw new ClinicGetHelpException(getCommandHelp());
+                return ParseResult.help(this::getCommandHelp);
             }
 
             // Assume loop enters at the beginning of an option
             if(!arguments[i].startsWith("-")) {
-                String message = "Unexpected command line argument " + arguments[i] + "!";
-                if(lastOption != null && lastOption.isFlag()) {
-                    message += " " + lastName + " is a flag and doesn't take any arguments.";
-                } else if(lastOption != null && !lastOption.isMultiArgument()) {
-                    message += " " + lastName + " only takes one argument.";
-                }
-                throw new ClinicParseException(message + System.lineSeparator() + getCommandHelp());
+                final String argument = arguments[i];
+                final Option previous = lastOption;
+                final String previousName = lastName;
+                return ParseResult.error(ParseResult.ErrorType.UNEXPECTED_ARGUMENT, lastName, argument, i, null, () -> {
+                    String message = "Unexpected command line argument " + argument + "!";
+                    if(previous != null && previous.isFlag()) {
+                        message += " " + previousName + " is a flag and doesn't take any arguments.";
+                    } else if(previous != null && !previous.isMultiArgument()) {
+                        message += " " + previousName + " only takes one argument.";
+                    }
+                    return message + System.lineSeparator() + getCommandHelp();
+                });
             }
 
             final Integer index = indexes.get(arguments[i]);
             if(index == null) {
-                throw new ClinicParseException(
-                    "Unrecognized commmand line option " + arguments[i] + "!" + System.lineSeparator() + getCommandHelp());
+                final String name = arguments[i];
+                return ParseResult.error(ParseResult.ErrorType.UNRECOGNIZED_OPTION, name, null, i, null,
+                    () -> "Unrecognized commmand line option " + name + "!" + System.lineSeparator() + getCommandHelp());
             }
 
             final Option option = options[index];
-            required.remove(option);
+            if(index < Long.SIZE) {
+                missing &= ~(1L << index);
+            } else {
+                found[index] = true;
+            }
             lastOption = option;
             lastName = arguments[i];
 
@@ -233,25 +526,22 @@ public class Command {
                 continue;
             }
 
-            // Error if an argument is required but we're at the end
-            if(i + 1 >= arguments.length) {
-                throw new ClinicParseException(arguments[i] + " takes " + (option.isMultiArgument() ? "at least 1" : "1") + " argument but got 0!"
-                    + System.lineSeparator() + getCommandHelp());
-            }
-
-            // Error if the next token is an option instead of an argument
-            if(arguments[i + 1].startsWith("-")) {
-                throw new ClinicParseException(arguments[i] + " takes " + (option.isMultiArgument() ? "at least 1" : "1") + " argument but got 0!"
-                    + System.lineSeparator() + getCommandHelp());
+            // Error if an argument is required but we're at the end, or if the next token is an option instead of an argument
+            if(i + 1 >= arguments.length || arguments[i + 1].startsWith("-")) {
+                final String name = arguments[i];
+                return ParseResult.error(ParseResult.ErrorType.MISSING_ARGUMENT, name, null, i, null,
+                    () -> name + " takes " + (option.isMultiArgument() ? "at least 1" : "1") + " argument but got 0!" + System.lineSeparator()
+                        + getCommandHelp());
             }
 
             if(!option.isMultiArgument()) {
-                final String argument = unquote(arguments[i + 1]);
                 try {
-                    parameters[index] = option.getValue(argument);
+                    parameters[index] = option.getValue(window.set(arguments, i + 1, 1, true));
                 } catch(final Exception e) {
-                    throw new ClinicParseException("Failed to convert argument \"" + argument + "\" to " + option.getParameter().getType().getSimpleName()
-                        + " for option " + String.join("/", option.getNames()) + "!" + System.lineSeparator() + getCommandHelp(), e);
+                    final String argument = unquote(arguments[i + 1]);
+                    return ParseResult.error(ParseResult.ErrorType.CONVERSION_FAILED, arguments[i], argument, i + 1, e,
+                        () -> "Failed to convert argument \"" + argument + "\" to " + option.getParameter().getType().getSimpleName() + " for option "
+                            + String.join("/", option.getNames()) + "!" + System.lineSeparator() + getCommandHelp());
                 }
                 i += 1;
                 continue;
@@ -261,118 +551,89 @@ public class Command {
             while(endArgument < arguments.length && !arguments[endArgument].startsWith("-")) {
                 endArgument++;
             }
-            final String[] argument = Arrays.stream(arguments, i + 1, endArgument).map(Command::unquote).toArray(String[]::new);
+            // Hand the converter a window onto the arguments instead of copying them
+            final ArgumentWindow values = window.set(arguments, i + 1, endArgument - (i + 1), true);
             try {
-                parameters[index] = option.getValue(argument);
+                parameters[index] = option.getValue(values);
             } catch(final Exception e) {
-                throw new ClinicParseException("Failed to convert argument \"" + String.join(" ", argument) + "\" to "
-                    + option.getParameter().getType().getSimpleName() + " for option " + String.join("/", option.getNames()) + "!" + System.lineSeparator()
-                    + System.lineSeparator() + getCommandHelp(), e);
+                final String argument = values.toString();
+                return ParseResult.error(ParseResult.ErrorType.CONVERSION_FAILED, arguments[i], argument, i + 1, e,
+                    () -> "Failed to convert argument \"" + argument + "\" to " + option.getParameter().getType().getSimpleName()
+                        + " for option " + String.join("/", option.getNames()) + "!" + System.lineSeparator() + System.lineSeparator() + getCommandHelp());
             }
             i += endArgument - (i + 1);
         }
 
         // Did we miss any required options
-        if(!required.isEmpty()) {
-            final StringBuilder message = new StringBuilder("Missing required option" + (required.size() > 1 ? "s:" : ":"));
-            for(final Option option : required) {
-                message.append(" " + String.join("/", option.getNames()));
+        List<Option> unset = null;
+        for(int i = 0; i < options.length && (missing != 0L || found != null); i++) {
+            if(options[i].isRequired() && (i < Long.SIZE ? (missing & 1L << i) != 0L : !found[i])) {
+                if(unset == null) {
+                    unset = new ArrayList<>();
+                }
+                unset.add(options[i]);
             }
-            throw new ClinicParseException(message.toString() + System.lineSeparator() + getCommandHelp());
         }
-
-        try {
-            return method.invoke(null, parameters);
-        } catch(final IllegalAccessException e) {
-            throw new ClinicException("Couldn't get access to " + method.getName() + "! Check its access modifiers and ensure it is visible to clinic.", e);
-        } catch(final IllegalArgumentException e) {
-            throw new ClinicException("Something unexpected went wrong calling " + getName() + ". Report this to the clinic team.", e);
-        } catch(final InvocationTargetException e) {
-            final Throwable cause = e.getCause();
-            if(cause instanceof RuntimeException) {
-                throw (RuntimeException)cause;
+        if(unset != null) {
+            final StringBuilder names = new StringBuilder();
+            for(final Option option : unset) {
+                names.append(" " + String.join("/", option.getNames()));
             }
-            throw new RuntimeException(null, cause);
+            final int count = unset.size();
+            return ParseResult.error(ParseResult.ErrorType.MISSING_REQUIRED_OPTION, names.substring(1), null, -1, null,
+                () -> "Missing required option" + (count > 1 ? "s:" : ":") + names + System.lineSeparator() + getCommandHelp());
         }
+
+        // Copy the mutable defaults that weren't replaced, so executions can't see each other's changes to them
+        if(copied.length > 0) {
+            copyDefaults(parameters);
+        }
+
+        return null;
     }
 
-    private String getCommandHelp() {
-        final StringBuilder builder = new StringBuilder(System.lineSeparator());
-        builder.append("Usage:  " + executableName + " " + name + (options.length > 0 ? " [OPTIONS]" : "") + System.lineSeparator());
-        builder.append(System.lineSeparator());
+    private String renderCommandHelp() {
+        final String newLine = System.lineSeparator();
+        final StringBuilder builder = new StringBuilder(256);
+        builder.append(newLine);
+        builder.append("Usage:  ").append(executableName).append(' ').append(name).append(options.length > 0 ? " [OPTIONS]" : "").append(newLine);
+        builder.append(newLine);
         if(help != null) {
-            builder.append(help + System.lineSeparator());
-            builder.append(System.lineSeparator());
+            builder.append(help).append(newLine);
+            builder.append(newLine);
         }
 
         if(options.length > 0) {
+            final String[] names = new String[options.length];
             int maxNamesLength = 0;
-            for(final Option option : options) {
-                final int namesLength = Arrays.stream(option.getNames()).mapToInt(String::length).sum() + 2 * (option.getNames().length - 1);
-                if(namesLength > maxNamesLength) {
-                    maxNamesLength = namesLength;
-                }
+            for(int i = 0; i < options.length; i++) {
+                names[i] = String.join(", ", options[i].getNames());
+                maxNamesLength = Math.max(maxNamesLength, names[i].length());
             }
 
-            builder.append("Options:" + System.lineSeparator());
-            for(final Option option : options) {
-                final String names = String.join(", ", option.getNames());
-                builder.append("  " + names);
+            builder.append("Options:").append(newLine);
+            for(int i = 0; i < options.length; i++) {
+                final Option option = options[i];
+                builder.append("  ").append(names[i]);
                 if(option.getHelp() != null || option.isRequired() || option.isShowDefault()) {
-                    final int buffer = maxNamesLength - names.length();
-                    for(int i = 0; i < buffer; i++) {
+                    for(int j = names[i].length(); j < maxNamesLength; j++) {
                         builder.append(' ');
                     }
                     builder.append("  ");
                     if(option.getHelp() != null) {
-                        builder.append(" " + option.getHelp());
+                        builder.append(' ').append(option.getHelp());
                     }
                     if(option.isRequired()) {
                         builder.append(" (required)");
                     }
                     if(option.isShowDefault()) {
-                        builder.append(" (default " + toString(option.getDefaultValue()) + ")");
+                        builder.append(" (default ").append(toString(option.getDefaultValue())).append(')');
                     }
                 }
-                builder.append(System.lineSeparator());
+                builder.append(newLine);
             }
-            builder.append(System.lineSeparator());
+            builder.append(newLine);
         }
         return builder.toString();
     }
-
-    /**
-     * @return the help message for the command
-     */
-    public String getHelp() {
-        return help;
-    }
-
-    /**
-     * @return the method that the command calls
-     */
-    public Method getMethod() {
-        return method;
-    }
-
-    /**
-     * @return the name of the command
-     */
-    public String getName() {
-        return name;
-    }
-
-    /**
-     * @return the options the command has
-     */
-    public Option[] getOptions() {
-        return options;
-    }
-
-    /**
-     * @return whether the command is the default command to use if none is specified
-     */
-    public boolean isDefaultCommand() {
-        return defaultCommand;
-    }
 }
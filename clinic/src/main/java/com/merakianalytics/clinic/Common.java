@@ -1,12 +1,19 @@
 package com.merakianalytics.clinic;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.google.common.base.CaseFormat;
 
 /**
  * Common data and utilities for clinic
  */
 public abstract class Common {
+    public static final String BATCH_OPTION = "--clinic-batch";
     public static final String HELP_OPTION = "--help";
+    public static final String SHELL_OPTION = "--clinic-shell";
+    public static final String THREADS_OPTION = "--clinic-threads";
+    public static final String TIME_OPTION = "--clinic-time";
 
     /**
      * @param camelCase
@@ -17,5 +24,55 @@ public abstract class Common {
         return CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_HYPHEN, camelCase);
     }
 
+    /**
+     * Splits a command line into arguments the way a POSIX shell would, without any expansions. Arguments are separated by whitespace, single quotes
+     * keep everything up to the next single quote, double quotes keep everything up to the next double quote except that a backslash escapes a double
+     * quote or a backslash, and a backslash outside of quotes escapes the next character. An unterminated quote runs to the end of the line.
+     *
+     * @param line
+     *        a command line
+     * @return the arguments in the command line
+     */
+    public static String[] tokenize(final String line) {
+        final List<String> arguments = new ArrayList<>();
+        final StringBuilder argument = new StringBuilder();
+        boolean started = false;
+        for(int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if(Character.isWhitespace(c)) {
+                if(started) {
+                    arguments.add(argument.toString());
+                    argument.setLength(0);
+                    started = false;
+                }
+            } else if(c == '\'') {
+                started = true;
+                for(i++; i < line.length() && line.charAt(i) != '\''; i++) {
+                    argument.append(line.charAt(i));
+                }
+            } else if(c == '"') {
+                started = true;
+                for(i++; i < line.length() && line.charAt(i) != '"'; i++) {
+                    final char quoted = line.charAt(i);
+                    if(quoted == '\\' && i + 1 < line.length() && (line.charAt(i + 1) == '"' || line.charAt(i + 1) == '\\')) {
+                        argument.append(line.charAt(++i));
+                    } else {
+                        argument.append(quoted);
+                    }
+                }
+            } else if(c == '\\' && i + 1 < line.length()) {
+                started = true;
+                argument.append(line.charAt(++i));
+            } else {
+                started = true;
+                argument.append(c);
+            }
+        }
+        if(started) {
+            arguments.add(argument.toString());
+        }
+        return arguments.toArray(new String[arguments.size()]);
+    }
+
     private Common() {}
 }
@@ -0,0 +1,20 @@
+package com.merakianalytics.clinic;
+
+/**
+ * Converts the command line argument(s) given to an option into the option's value. Clinic resolves a converter for each
+ * {@link com.merakianalytics.clinic.Option} once, when the option is created, and uses it both to parse arguments and to parse String default values.
+ *
+ * @param <T>
+ *        the type of value the converter produces
+ * @see com.merakianalytics.clinic.Option#getConverter()
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Converter<T> {
+    /**
+     * @param values
+     *        the command line argument(s) to convert. Single-valued options only use the first.
+     * @return the converted value
+     */
+    public T convert(String... values);
+}
@@ -0,0 +1,712 @@
+package com.merakianalytics.clinic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+
+import com.merakianalytics.clinic.collections.DoubleList;
+import com.merakianalytics.clinic.collections.IntList;
+import com.merakianalytics.clinic.collections.IntSet;
+import com.merakianalytics.clinic.collections.LongList;
+import com.merakianalytics.clinic.collections.LongSet;
+import com.merakianalytics.clinic.exceptions.ClinicAnnotationException;
+import com.merakianalytics.clinic.exceptions.ClinicException;
+
+/**
+ * Resolves the {@link com.merakianalytics.clinic.Converter} for an option's type. All of the type checks happen here, once per option, so converting
+ * arguments only runs the conversion itself.
+ */
+abstract class Converters {
+    /**
+     * A read-only view of a range of a sorted, duplicate-free array, in natural ordering. {@link java.util.TreeSet#addAll(Collection)} builds the tree
+     * in linear time when given a {@link java.util.SortedSet} with the same ordering, so this is all that's needed to hand it pre-sorted elements.
+     * Head, sub and tail sets are views of narrower ranges of the same array.
+     */
+    static class SortedArraySet extends AbstractSet<Object> implements SortedSet<Object> {
+        private final Object[] elements;
+        private final int from;
+        private final int to;
+
+        SortedArraySet(final Object[] elements, final int from, final int to) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Comparator<? super Object> comparator() {
+            return null;
+        }
+
+        @Override
+        public boolean contains(final Object element) {
+            return Arrays.binarySearch(elements, from, to, element) >= 0;
+        }
+
+        @Override
+        public Object first() {
+            if(from == to) {
+                throw new NoSuchElementException();
+            }
+            return elements[from];
+        }
+
+        @Override
+        public SortedSet<Object> headSet(final Object toElement) {
+            return new SortedArraySet(elements, from, indexOf(toElement));
+        }
+
+        private int indexOf(final Object element) {
+            // The index of the first element that isn't less than this one
+            final int index = Arrays.binarySearch(elements, from, to, element);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return Arrays.asList(elements).subList(from, to).iterator();
+        }
+
+        @Override
+        public Object last() {
+            if(from == to) {
+                throw new NoSuchElementException();
+            }
+            return elements[to - 1];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public SortedSet<Object> subSet(final Object fromElement, final Object toElement) {
+            if(((Comparable<Object>)fromElement).compareTo(toElement) > 0) {
+                throw new IllegalArgumentException("fromElement is greater than toElement!");
+            }
+            return new SortedArraySet(elements, indexOf(fromElement), indexOf(toElement));
+        }
+
+        @Override
+        public SortedSet<Object> tailSet(final Object fromElement) {
+            return new SortedArraySet(elements, indexOf(fromElement), to);
+        }
+    }
+
+    /**
+     * A {@link com.merakianalytics.clinic.Converter} that reads its values from an {@link com.merakianalytics.clinic.ArgumentWindow}, so parsing can
+     * hand it an option's arguments without copying them out of the argument array
+     */
+    @FunctionalInterface
+    static interface WindowConverter<T> extends Converter<T> {
+        public T convert(ArgumentWindow values);
+
+        @Override
+        public default T convert(final String... values) {
+            return convert(new ArgumentWindow(values, 0, values.length, false));
+        }
+    }
+
+    // Softly referenced so a cached factory doesn't keep its type, and the type's class loader, from being unloaded
+    private static final ClassValue<Reference<MethodHandle>> FACTORIES = new ClassValue<Reference<MethodHandle>>() {
+        @Override
+        protected Reference<MethodHandle> computeValue(final Class<?> type) {
+            final MethodHandle factory = findFactory(type);
+            return factory == null ? NO_FACTORY : new SoftReference<>(factory);
+        }
+    };
+    private static final String[] FACTORY_NAMES = new String[] {"valueOf", "parse", "fromString"};
+    private static final Class<?>[] FACTORY_PARAMETER_TYPES = new Class<?>[] {String.class, CharSequence.class, String.class};
+    private static final Reference<MethodHandle> NO_FACTORY = new WeakReference<>(null);
+    // Below this many elements inserting one at a time into a TreeSet is cheaper than sorting up front
+    private static final int SORTED_BULK_THRESHOLD = 1024;
+
+    /**
+     * Checks that String values can be converted to a type without converting any, so bad types can be reported before any value needs converting
+     *
+     * @param type
+     *        the type to convert to. For multi-argument options, this is the element type.
+     * @param names
+     *        the option's names, for error messages
+     */
+    static void checkConvertible(final Class<?> type, final String[] names) {
+        if(type.isPrimitive() || Character.class.equals(type) || String.class.equals(type)) {
+            return;
+        }
+        if(factory(type) == null) {
+            throw unsupported(type, names);
+        }
+    }
+
+    /**
+     * Resolves a factory for an option's Collection type that creates collections sized for a given number of elements
+     *
+     * @param type
+     *        the Collection type of the option's parameter
+     * @param names
+     *        the option's names, for error messages
+     * @return the collection factory for the option
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static IntFunction<Collection<Object>> collectionFactory(final Class<? extends Collection> type, final String[] names) {
+        final Class<? extends Collection> implementation;
+        if(type.isInterface()) {
+            try {
+                implementation = Default.implementation(type);
+            } catch(final IllegalArgumentException e) {
+                return (final int size) -> {
+                    throw new IllegalArgumentException(e.getMessage(), e);
+                };
+            }
+        } else {
+            implementation = type;
+        }
+
+        if(ArrayList.class.equals(implementation)) {
+            return ArrayList::new;
+        }
+        if(IntList.class.equals(implementation)) {
+            return (IntFunction)IntList::new;
+        }
+        if(LongList.class.equals(implementation)) {
+            return (IntFunction)LongList::new;
+        }
+        if(DoubleList.class.equals(implementation)) {
+            return (IntFunction)DoubleList::new;
+        }
+        if(IntSet.class.equals(implementation)) {
+            return (IntFunction)IntSet::new;
+        }
+        if(LongSet.class.equals(implementation)) {
+            return (IntFunction)LongSet::new;
+        }
+        if(HashSet.class.equals(implementation)) {
+            return (final int size) -> new HashSet<>(hashCapacity(size));
+        }
+        if(LinkedHashSet.class.equals(implementation)) {
+            return (final int size) -> new LinkedHashSet<>(hashCapacity(size));
+        }
+        if(ArrayDeque.class.equals(implementation)) {
+            return ArrayDeque::new;
+        }
+        if(LinkedBlockingQueue.class.equals(implementation)) {
+            // Its int constructor sets a capacity, so it stays unbounded for the command to add to
+            return (final int size) -> new LinkedBlockingQueue<>();
+        }
+        if(ArrayBlockingQueue.class.equals(implementation)) {
+            // Bounded, so leave the command room to add to it
+            return (final int size) -> new ArrayBlockingQueue<>(Math.max(size, Default.QUEUE_CAPACITY));
+        }
+        if(PriorityQueue.class.equals(implementation)) {
+            return (final int size) -> new PriorityQueue<>(Math.max(size, 1));
+        }
+        if(Vector.class.equals(implementation)) {
+            return Vector::new;
+        }
+
+        // Anything else needs an accessible no-arg constructor
+        if(Modifier.isAbstract(implementation.getModifiers())) {
+            return (final int size) -> {
+                throw new ClinicAnnotationException(implementation.getSimpleName() + " is an abstract class or interface, but the @Option "
+                    + String.join("/", names) + " uses that type! Please use a concrete type.");
+            };
+        }
+
+        final MethodHandle constructor;
+        try {
+            constructor = MethodHandles.lookup().findConstructor(implementation, MethodType.methodType(void.class)).asType(MethodType.methodType(Collection.class));
+        } catch(final NoSuchMethodException | IllegalAccessException e) {
+            return (final int size) -> {
+                throw new ClinicAnnotationException("The no-arg constructor for " + implementation.getSimpleName()
+                    + " is not visible to clinic, but the @Option " + String.join("/", names)
+                    + " uses that type! Please make the constuctor exists and is visible or use a different type.", e);
+            };
+        }
+
+        return (final int size) -> {
+            try {
+                return (Collection<Object>)constructor.invokeExact();
+            } catch(final RuntimeException e) {
+                throw e;
+            } catch(final Throwable e) {
+                throw new RuntimeException(null, e);
+            }
+        };
+    }
+
+    /**
+     * Resolves how to copy an option's default value, so each execution gets its own copy of mutable defaults. Arrays and Collections are copied.
+     * Other types are shared between executions, so they should be immutable, like Strings, boxed primitives, and most types with String factories.
+     *
+     * @param type
+     *        the type of the option's parameter
+     * @param names
+     *        the option's names, for error messages
+     * @return the copier for the option's default value, or null if it doesn't need copying
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static UnaryOperator<Object> copier(final Class<?> type, final String[] names) {
+        if(type.isArray()) {
+            final Class<?> componentType = type.getComponentType();
+            return (final Object value) -> {
+                final int length = Array.getLength(value);
+                final Object copy = Array.newInstance(componentType, length);
+                System.arraycopy(value, 0, copy, 0, length);
+                return copy;
+            };
+        }
+
+        if(Collection.class.isAssignableFrom(type)) {
+            final IntFunction<Collection<Object>> factory = collectionFactory((Class<? extends Collection>)type, names);
+            return (final Object value) -> {
+                final Collection<?> collection = (Collection<?>)value;
+                final Collection<Object> copy = factory.apply(collection.size());
+                copy.addAll(collection);
+                return copy;
+            };
+        }
+
+        return null;
+    }
+
+    private static Function<String, Object> element(final Class<?> type, final String[] names) {
+        if(boolean.class.equals(type) || Boolean.class.equals(type)) {
+            return Boolean::valueOf;
+        }
+        if(byte.class.equals(type) || Byte.class.equals(type)) {
+            return Byte::valueOf;
+        }
+        if(char.class.equals(type) || Character.class.equals(type)) {
+            return (final String value) -> Character.valueOf(toChar(value));
+        }
+        if(double.class.equals(type) || Double.class.equals(type)) {
+            return Double::valueOf;
+        }
+        if(float.class.equals(type) || Float.class.equals(type)) {
+            return Float::valueOf;
+        }
+        if(int.class.equals(type) || Integer.class.equals(type)) {
+            return Integer::valueOf;
+        }
+        if(long.class.equals(type) || Long.class.equals(type)) {
+            return Long::valueOf;
+        }
+        if(short.class.equals(type) || Short.class.equals(type)) {
+            return Short::valueOf;
+        }
+        if(String.class.equals(type)) {
+            return (final String value) -> value;
+        }
+        return (final String value) -> instantiate(type, value, names);
+    }
+
+    /**
+     * Resolves the converter for an option
+     *
+     * @param type
+     *        the type of the option's parameter
+     * @param genericType
+     *        the type of the elements of a Collection option, or null if it isn't set
+     * @param names
+     *        the option's names, for error messages
+     * @return the converter for the option
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static WindowConverter<?> get(final Class<?> type, final Class<?> genericType, final String[] names) {
+        if(String.class.equals(type)) {
+            return (final ArgumentWindow values) -> values.get(0);
+        }
+
+        if(type.isArray()) {
+            final Class<?> componentType = type.getComponentType();
+            if(String.class.equals(componentType)) {
+                // The only conversion that needs the arguments as an array, so it's the only one that copies them
+                return (final ArgumentWindow values) -> values.toArray();
+            }
+
+            if(componentType.isPrimitive()) {
+                return primitiveArray(componentType);
+            }
+
+            final Function<String, Object> element = element(componentType, names);
+            return (final ArgumentWindow values) -> {
+                final Object[] result = (Object[])Array.newInstance(componentType, values.length());
+                for(int i = 0; i < values.length(); i++) {
+                    final String value = values.get(i);
+                    result[i] = value == null ? null : element.apply(value);
+                }
+                return result;
+            };
+        }
+
+        final WindowConverter<?> primitiveCollection = primitiveCollection(type);
+        if(primitiveCollection != null) {
+            return primitiveCollection;
+        }
+
+        if(Collection.class.isAssignableFrom(type)) {
+            if(genericType == null) {
+                return (final ArgumentWindow values) -> {
+                    throw new ClinicAnnotationException("The @Option " + String.join("/", names)
+                        + " is a Collection type, but doesn't set the \"type\" @Option parameter. Because of Java's runtime generic type erasure, the \"type\" parameter is needed to resolve the value for this @Option. Please set it to the type that the Collection is of.");
+                };
+            }
+
+            final IntFunction<Collection<Object>> factory = collectionFactory((Class<? extends Collection>)type, names);
+            final Function<String, Object> element = element(genericType, names);
+            if(isTreeSet(type)) {
+                return (final ArgumentWindow values) -> {
+                    if(values.length() < SORTED_BULK_THRESHOLD) {
+                        final Collection<Object> result = factory.apply(values.length());
+                        for(int i = 0; i < values.length(); i++) {
+                            final String value = values.get(i);
+                            result.add(element.apply(Objects.requireNonNull(value)));
+                        }
+                        return result;
+                    }
+
+                    final Object[] elements = new Object[values.length()];
+                    for(int i = 0; i < elements.length; i++) {
+                        elements[i] = element.apply(Objects.requireNonNull(values.get(i)));
+                    }
+                    return sortedSet(factory.apply(elements.length), elements);
+                };
+            }
+            return (final ArgumentWindow values) -> {
+                final Collection<Object> result = factory.apply(values.length());
+                for(int i = 0; i < values.length(); i++) {
+                    final String value = values.get(i);
+                    result.add(value == null ? null : element.apply(value));
+                }
+                return result;
+            };
+        }
+
+        final Function<String, Object> element = element(type, names);
+        return (final ArgumentWindow values) -> {
+            final String value = values.get(0);
+            return value == null ? null : element.apply(value);
+        };
+    }
+
+    private static MethodHandle factory(final Class<?> type) {
+        final Reference<MethodHandle> reference = FACTORIES.get(type);
+        final MethodHandle factory = reference.get();
+        if(factory != null || reference == NO_FACTORY) {
+            return factory;
+        }
+
+        // The factory was collected, so look it up again and let the next call cache it
+        FACTORIES.remove(type);
+        return findFactory(type);
+    }
+
+    private static MethodHandle findFactory(final Class<?> type) {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final MethodType factoryType = MethodType.methodType(Object.class, String.class);
+
+        if(!type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+            try {
+                return lookup.findConstructor(type, MethodType.methodType(void.class, String.class)).asType(factoryType);
+            } catch(final NoSuchMethodException | IllegalAccessException e) {
+                // Look for a static factory instead
+            }
+        }
+
+        for(int i = 0; i < FACTORY_NAMES.length; i++) {
+            try {
+                final Method factory = type.getMethod(FACTORY_NAMES[i], FACTORY_PARAMETER_TYPES[i]);
+                if(Modifier.isStatic(factory.getModifiers()) && type.isAssignableFrom(factory.getReturnType())) {
+                    return lookup.unreflect(factory).asType(factoryType);
+                }
+            } catch(final NoSuchMethodException | IllegalAccessException | SecurityException e) {
+                // Try the next factory
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the element type implied by one of clinic's primitive collection types, so options of those types don't need to set the "type" @Option
+     * parameter
+     *
+     * @param type
+     *        the type of the option's parameter
+     * @return the wrapper class for the collection's elements, or null if the type isn't a primitive collection
+     */
+    static Class<?> getElementType(final Class<?> type) {
+        if(IntList.class.equals(type) || IntSet.class.equals(type)) {
+            return Integer.class;
+        }
+        if(LongList.class.equals(type) || LongSet.class.equals(type)) {
+            return Long.class;
+        }
+        if(DoubleList.class.equals(type)) {
+            return Double.class;
+        }
+        return null;
+    }
+
+    private static int hashCapacity(final int size) {
+        return Math.max((int)(size / 0.75f) + 1, 16);
+    }
+
+    private static Object instantiate(final Class<?> type, final String value, final String[] names) {
+        if(value == null) {
+            return null;
+        }
+
+        final MethodHandle factory = factory(type);
+        if(factory == null) {
+            throw unsupported(type, names);
+        }
+
+        try {
+            return (Object)factory.invokeExact(value);
+        } catch(final RuntimeException e) {
+            throw e;
+        } catch(final Throwable e) {
+            throw new ClinicException(e);
+        }
+    }
+
+    private static boolean isTreeSet(final Class<?> type) {
+        return TreeSet.class.equals(type) || SortedSet.class.equals(type) || NavigableSet.class.equals(type);
+    }
+
+    private static WindowConverter<?> primitiveArray(final Class<?> componentType) {
+        // Fill the typed array directly so elements are never boxed
+        if(boolean.class.equals(componentType)) {
+            return (final ArgumentWindow values) -> {
+                final boolean[] result = new boolean[values.length()];
+                for(int i = 0; i < values.length(); i++) {
+                    final String value = values.get(i);
+                    if(value != null) {
+                        result[i] = Boolean.parseBoolean(value);
+                    }
+                }
+                return result;
+            };
+        }
+        if(byte.class.equals(componentType)) {
+            return (final ArgumentWindow values) -> {
+                final byte[] result = new byte[values.length()];
+                for(int i = 0; i < values.length(); i++) {
+                    final String value = values.get(i);
+                    if(value != null) {
+                        result[i] = Byte.parseByte(value);
+                    }
+                }
+                return result;
+            };
+        }
+        if(char.class.equals(componentType)) {
+            return (final ArgumentWindow values) -> {
+                final char[] result = new char[values.length()];
+                for(int i = 0; i < values.length(); i++) {
+                    final String value = values.get(i);
+                    if(value != null) {
+                        result[i] = toChar(value);
+                    }
+                }
+                return result;
+            };
+        }
+        if(double.class.equals(componentType)) {
+            return (final ArgumentWindow values) -> {
+                final double[] result = new double[values.length()];
+                for(int i = 0; i < values.length(); i++) {
+                    final String value = values.get(i);
+                    if(value != null) {
+                        result[i] = Double.parseDouble(value);
+                    }
+                }
+                return result;
+            };
+        }
+        if(float.class.equals(componentType)) {
+            return (final ArgumentWindow values) -> {
+                final float[] result = new float[values.length()];
+                for(int i = 0; i < values.length(); i++) {
+                    final String value = values.get(i);
+                    if(value != null) {
+                        result[i] = Float.parseFloat(value);
+                    }
+                }
+                return result;
+            };
+        }
+        if(int.class.equals(componentType)) {
+            return (final ArgumentWindow values) -> {
+                final int[] result = new int[values.length()];
+                for(int i = 0; i < values.length(); i++) {
+                    final String value = values.get(i);
+                    if(value != null) {
+                        result[i] = Integer.parseInt(value);
+                    }
+                }
+                return result;
+            };
+        }
+        if(long.class.equals(componentType)) {
+            return (final ArgumentWindow values) -> {
+                final long[] result = new long[values.length()];
+                for(int i = 0; i < values.length(); i++) {
+                    final String value = values.get(i);
+                    if(value != null) {
+                        result[i] = Long.parseLong(value);
+                    }
+                }
+                return result;
+            };
+        }
+        if(short.class.equals(componentType)) {
+            return (final ArgumentWindow values) -> {
+                final short[] result = new short[values.length()];
+                for(int i = 0; i < values.length(); i++) {
+                    final String value = values.get(i);
+                    if(value != null) {
+                        result[i] = Short.parseShort(value);
+                    }
+                }
+                return result;
+            };
+        }
+        throw new ClinicException("Tried to get a converter for an array of a primitive type, but " + componentType.getSimpleName()
+            + " didn't match any! Report this to the clinic team.");
+    }
+
+    private static WindowConverter<?> primitiveCollection(final Class<?> type) {
+        // Like primitive arrays, fill clinic's primitive collections directly so elements are never boxed
+        if(IntList.class.equals(type)) {
+            return (final ArgumentWindow values) -> {
+                final IntList result = new IntList(values.length());
+                for(int i = 0; i < values.length(); i++) {
+                    final String value = values.get(i);
+                    if(value != null) {
+                        result.add(Integer.parseInt(value));
+                    }
+                }
+                return result;
+            };
+        }
+        if(LongList.class.equals(type)) {
+            return (final ArgumentWindow values) -> {
+                final LongList result = new LongList(values.length());
+                for(int i = 0; i < values.length(); i++) {
+                    final String value = values.get(i);
+                    if(value != null) {
+                        result.add(Long.parseLong(value));
+                    }
+                }
+                return result;
+            };
+        }
+        if(DoubleList.class.equals(type)) {
+            return (final ArgumentWindow values) -> {
+                final DoubleList result = new DoubleList(values.length());
+                for(int i = 0; i < values.length(); i++) {
+                    final String value = values.get(i);
+                    if(value != null) {
+                        result.add(Double.parseDouble(value));
+                    }
+                }
+                return result;
+            };
+        }
+        if(IntSet.class.equals(type)) {
+            return (final ArgumentWindow values) -> {
+                final IntSet result = new IntSet(values.length());
+                for(int i = 0; i < values.length(); i++) {
+                    final String value = values.get(i);
+                    if(value != null) {
+                        result.add(Integer.parseInt(value));
+                    }
+                }
+                return result;
+            };
+        }
+        if(LongSet.class.equals(type)) {
+            return (final ArgumentWindow values) -> {
+                final LongSet result = new LongSet(values.length());
+                for(int i = 0; i < values.length(); i++) {
+                    final String value = values.get(i);
+                    if(value != null) {
+                        result.add(Long.parseLong(value));
+                    }
+                }
+                return result;
+            };
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection<Object> sortedSet(final Collection<Object> result, final Object[] elements) {
+        // Sort and deduplicate up front so the TreeSet can be built in one linear pass instead of one insertion per element
+        Arrays.sort(elements);
+        int size = 0;
+        for(int i = 0; i < elements.length; i++) {
+            if(size == 0 || ((Comparable<Object>)elements[size - 1]).compareTo(elements[i]) != 0) {
+                elements[size++] = elements[i];
+            }
+        }
+        result.addAll(new SortedArraySet(elements, 0, size));
+        return result;
+    }
+
+    private static char toChar(final String value) {
+        if(value.length() != 1) {
+            throw new IllegalArgumentException("char or Character arguments must be of length 1!");
+        }
+        return value.charAt(0);
+    }
+
+    private static ClinicAnnotationException unsupported(final Class<?> type, final String[] names) {
+        if(type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return new ClinicAnnotationException(type.getSimpleName() + " is an abstract class or interface without a static valueOf(String), parse(CharSequence), or fromString(String) factory, but the @Option "
+                + String.join("/", names) + " uses that type! Please use a concrete type or add a factory.");
+        }
+
+        try {
+            type.getConstructor(String.class);
+            return new ClinicAnnotationException("The String-only constructor for " + type.getSimpleName() + " is not visible to clinic, but the @Option "
+                + String.join("/", names) + " uses that type! Please make the constructor visible or use a different type.");
+        } catch(final NoSuchMethodException | SecurityException e) {
+            return new ClinicAnnotationException("Couldn't find a String-only constructor or a static valueOf(String), parse(CharSequence), or fromString(String) factory for "
+                + type.getSimpleName() + ", but the @Option " + String.join("/", names)
+                + " uses that type! Please add a String-only constructor or factory or use a different type.");
+        }
+    }
+
+    private Converters() {}
+}
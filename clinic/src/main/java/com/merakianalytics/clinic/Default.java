@@ -14,9 +14,10 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.LinkedTransferQueue;
 import java.util.concurrent.TransferQueue;
 
@@ -32,6 +33,11 @@ public abstract class Default {
     public static final float FLOAT = 0.0f;
     public static final int INT = 0;
     public static final long LONG = 0L;
+    /**
+     * The capacity of an ArrayBlockingQueue option, or the number of arguments it's given if that's more. BlockingQueue options that don't ask for an
+     * ArrayBlockingQueue are unbounded.
+     */
+    public static final int QUEUE_CAPACITY = 1024;
     public static final short SHORT = (short)0;
     public static final String STRING = "null"; // This is used because Annotations can't use null as default values
 
@@ -91,7 +97,7 @@ public abstract class Default {
             return ArrayDeque.class;
         }
         if(BlockingQueue.class.equals(type)) {
-            return ArrayBlockingQueue.class;
+            return LinkedBlockingQueue.class;
         }
         if(TransferQueue.class.equals(type)) {
             return LinkedTransferQueue.class;
@@ -99,7 +105,7 @@ public abstract class Default {
         if(Deque.class.equals(type)) {
             return ArrayDeque.class;
         }
-        if(BlockingQueue.class.equals(type)) {
+        if(BlockingDeque.class.equals(type)) {
             return LinkedBlockingDeque.class;
         }
 
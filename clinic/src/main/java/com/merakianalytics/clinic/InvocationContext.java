@@ -0,0 +1,49 @@
+package com.merakianalytics.clinic;
+
+import java.util.Arrays;
+
+/**
+ * Reusable buffers for executing commands. Passing a context to {@link com.merakianalytics.clinic.Command#execute(InvocationContext, String...)} or
+ * {@link com.merakianalytics.clinic.Application#execute(InvocationContext, String...)} reuses its parameter array and argument window instead of
+ * allocating new ones for each execution, so executing a command with primitive, wrapper, and String options allocates nothing beyond what the
+ * command method itself does, its boxed parameters aside. The JDK caches small boxed integers, but not boxed doubles or floats.
+ *
+ * A context must only be used by one thread at a time. {@link #get()} gives each thread its own.
+ *
+ * @since 1.0.0
+ */
+public final class InvocationContext {
+    private static final ThreadLocal<InvocationContext> CONTEXTS = ThreadLocal.withInitial(InvocationContext::new);
+
+    /**
+     * @return the current thread's context
+     */
+    public static InvocationContext get() {
+        return CONTEXTS.get();
+    }
+
+    // Method handles spread parameter arrays of exactly the method's parameter count, so keep one array per count
+    private Object[][] parameters = new Object[8][];
+    private final ArgumentWindow window = new ArgumentWindow();
+
+    /**
+     * Creates a context for a caller to manage itself. Most callers should use {@link #get()} instead.
+     */
+    public InvocationContext() {}
+
+    Object[] parameters(final int length) {
+        if(length >= parameters.length) {
+            parameters = Arrays.copyOf(parameters, Math.max(length + 1, parameters.length * 2));
+        }
+        Object[] buffer = parameters[length];
+        if(buffer == null) {
+            buffer = new Object[length];
+            parameters[length] = buffer;
+        }
+        return buffer;
+    }
+
+    ArgumentWindow window() {
+        return window;
+    }
+}
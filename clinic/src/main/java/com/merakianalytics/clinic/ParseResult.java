@@ -0,0 +1,206 @@
+package com.merakianalytics.clinic;
+
+import java.util.function.Supplier;
+
+import com.merakianalytics.clinic.exceptions.ClinicGetHelpException;
+import com.merakianalytics.clinic.exceptions.ClinicParseException;
+
+/**
+ * The result of parsing command line arguments without executing a command. Parsing either succeeds, binding the parameters for a command, asks for a
+ * help prompt, or fails with a structured error describing what was wrong and where.
+ *
+ * Nothing is thrown while parsing, and help prompts and error messages aren't built until {@link #getMessage()} asks for them, so turning away
+ * malformed or --help requests is cheap.
+ *
+ * @see com.merakianalytics.clinic.Application#parse(String...)
+ * @see com.merakianalytics.clinic.Command#parse(String...)
+ * @since 1.0.0
+ */
+public class ParseResult {
+    /**
+     * What went wrong when parsing fails
+     *
+     * @since 1.0.0
+     */
+    public static enum ErrorType {
+        /**
+         * An option's argument couldn't be converted to the option's type. {@link ParseResult#getCause()} is the conversion error.
+         */
+        CONVERSION_FAILED,
+        /**
+         * An option that takes arguments was given none
+         */
+        MISSING_ARGUMENT,
+        /**
+         * One or more required options weren't given. {@link ParseResult#getOption()} names the missing options.
+         */
+        MISSING_REQUIRED_OPTION,
+        /**
+         * No command was named and the application has no default command
+         */
+        NO_COMMAND,
+        /**
+         * An argument appeared where an option was expected
+         */
+        UNEXPECTED_ARGUMENT,
+        /**
+         * The named command doesn't exist
+         */
+        UNRECOGNIZED_COMMAND,
+        /**
+         * An option doesn't exist for the command
+         */
+        UNRECOGNIZED_OPTION;
+    }
+
+    /**
+     * The outcome of parsing
+     *
+     * @since 1.0.0
+     */
+    public static enum Status {
+        /**
+         * The arguments were invalid
+         */
+        ERROR,
+        /**
+         * The arguments asked for a help prompt
+         */
+        HELP,
+        /**
+         * The arguments were parsed and the command's parameters are bound
+         */
+        SUCCESS;
+    }
+
+    static ParseResult error(final ErrorType errorType, final String option, final String argument, final int position, final Throwable cause,
+        final Supplier<String> message) {
+        return new ParseResult(Status.ERROR, null, null, errorType, option, argument, position, cause, message);
+    }
+
+    static ParseResult help(final Supplier<String> message) {
+        return new ParseResult(Status.HELP, null, null, null, null, null, -1, null, message);
+    }
+
+    static ParseResult success(final Command command, final Object[] parameters) {
+        return new ParseResult(Status.SUCCESS, command, parameters, null, null, null, -1, null, null);
+    }
+
+    private final String argument;
+    private final Throwable cause;
+    private final Command command;
+    private final ErrorType errorType;
+    private final Supplier<String> message;
+    private final String option;
+    private final Object[] parameters;
+    private final int position;
+    private final Status status;
+
+    private ParseResult(final Status status, final Command command, final Object[] parameters, final ErrorType errorType, final String option,
+        final String argument, final int position, final Throwable cause, final Supplier<String> message) {
+        this.status = status;
+        this.command = command;
+        this.parameters = parameters;
+        this.errorType = errorType;
+        this.option = option;
+        this.argument = argument;
+        this.position = position;
+        this.cause = cause;
+        this.message = message;
+    }
+
+    /**
+     * Executes the parsed command with its bound parameters. If parsing didn't succeed, this throws the same exception
+     * {@link com.merakianalytics.clinic.Command#execute(String...)} would have.
+     *
+     * @return the result of executing the command
+     * @throws com.merakianalytics.clinic.exceptions.ClinicGetHelpException
+     *         if the arguments asked for a help prompt. The exception message is the help prompt.
+     * @throws com.merakianalytics.clinic.exceptions.ClinicParseException
+     *         if the arguments were invalid. The exception message describes the problem.
+     */
+    public Object execute() {
+        switch(status) {
+            case SUCCESS:
+                return command.invoke(parameters);
+            case HELP:
+                throw new ClinicGetHelpException(message, null, false);
+            default:
+                throw new ClinicParseException(message, cause, false);
+        }
+    }
+
+    /**
+     * @return the argument that caused the error, or null if there wasn't a single offending argument. For conversion failures of multi-argument
+     *         options this is all of the option's arguments, separated by spaces.
+     */
+    public String getArgument() {
+        return argument;
+    }
+
+    /**
+     * @return the exception thrown converting an argument, or null if the error wasn't a conversion failure
+     */
+    public Throwable getCause() {
+        return cause;
+    }
+
+    /**
+     * @return the command the arguments were parsed for, or null if parsing didn't succeed
+     */
+    public Command getCommand() {
+        return command;
+    }
+
+    /**
+     * @return what went wrong, or null if parsing didn't fail
+     */
+    public ErrorType getErrorType() {
+        return errorType;
+    }
+
+    /**
+     * @return the help prompt if help was requested, the error message (followed by the relevant help prompt) if parsing failed, or null if parsing
+     *         succeeded. The message is built each time this is called.
+     */
+    public String getMessage() {
+        return message == null ? null : message.get();
+    }
+
+    /**
+     * @return the option name involved in the error as it was given on the command line, or null if no option was involved. For missing required
+     *         options this is the names of the missing options, separated by spaces.
+     */
+    public String getOption() {
+        return option;
+    }
+
+    /**
+     * @return the parameters bound for the command, in method parameter order, or null if parsing didn't succeed. The array isn't copied, so changes
+     *         to it affect {@link #execute()}.
+     */
+    public Object[] getParameters() {
+        return parameters;
+    }
+
+    /**
+     * @return the index in the parsed arguments of the argument or option where the error was found, or -1 if the error has no position
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * @return the outcome of parsing
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return whether parsing succeeded
+     */
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+}
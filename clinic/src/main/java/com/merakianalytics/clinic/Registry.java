@@ -0,0 +1,288 @@
+package com.merakianalytics.clinic;
+
+import java.lang.reflect.InvocationTargetException;
+
+import com.merakianalytics.clinic.exceptions.ClinicException;
+
+/**
+ * A compile-time generated index of the clinic commands in a cli class. Registries are generated by the clinic-processor annotation processor and let
+ * clinic find commands and name them and their options without scanning the cli class or relying on the -parameters compiler option. If no registry was
+ * generated for a cli class, clinic falls back to reflection.
+ *
+ * @since 1.0.0
+ */
+public abstract class Registry {
+    /**
+     * A command found in a cli class at compile time
+     *
+     * @since 1.0.0
+     */
+    public static class Entry {
+        private final boolean defaultCommand;
+        private final String help;
+        private final Invoker invoker;
+        private final String methodName;
+        private final String name;
+        private final String[] optionNames;
+        private final Class<?>[] parameterTypes;
+
+        /**
+         * @param name
+         *        the name of the command
+         * @param help
+         *        the help message for the command, or null if it has none
+         * @param defaultCommand
+         *        whether the command is the default command to use if none is specified
+         * @param methodName
+         *        the name of the method the command calls
+         * @param parameterTypes
+         *        the parameter types of the method the command calls
+         * @param optionNames
+         *        the default option names for the parameters of the method the command calls, derived from their source names
+         */
+        public Entry(final String name, final String help, final boolean defaultCommand, final String methodName, final Class<?>[] parameterTypes,
+            final String[] optionNames) {
+            this(name, help, defaultCommand, methodName, parameterTypes, optionNames, null);
+        }
+
+        /**
+         * @param name
+         *        the name of the command
+         * @param help
+         *        the help message for the command, or null if it has none
+         * @param defaultCommand
+         *        whether the command is the default command to use if none is specified
+         * @param methodName
+         *        the name of the method the command calls
+         * @param parameterTypes
+         *        the parameter types of the method the command calls
+         * @param optionNames
+         *        the default option names for the parameters of the method the command calls, derived from their source names
+         * @param invoker
+         *        the generated parser and invoker for the command, or null if it should always be executed reflectively
+         */
+        public Entry(final String name, final String help, final boolean defaultCommand, final String methodName, final Class<?>[] parameterTypes,
+            final String[] optionNames, final Invoker invoker) {
+            this.name = name;
+            this.help = help;
+            this.defaultCommand = defaultCommand;
+            this.methodName = methodName;
+            this.parameterTypes = parameterTypes;
+            this.optionNames = optionNames;
+            this.invoker = invoker;
+        }
+
+        /**
+         * @return the help message for the command
+         */
+        public String getHelp() {
+            return help;
+        }
+
+        /**
+         * @return the generated parser and invoker for the command, or null if it should always be executed reflectively
+         */
+        public Invoker getInvoker() {
+            return invoker;
+        }
+
+        /**
+         * @return the name of the method the command calls
+         */
+        public String getMethodName() {
+            return methodName;
+        }
+
+        /**
+         * @return the name of the command
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the default option names for the parameters of the method the command calls, derived from their source names
+         */
+        public String[] getOptionNames() {
+            return optionNames;
+        }
+
+        /**
+         * @return the parameter types of the method the command calls
+         */
+        public Class<?>[] getParameterTypes() {
+            return parameterTypes;
+        }
+
+        /**
+         * @return whether the command is the default command to use if none is specified
+         */
+        public boolean isDefaultCommand() {
+            return defaultCommand;
+        }
+    }
+
+    /**
+     * A generated parser and invoker for a single command. Invokers handle well-formed arguments themselves and hand anything else back to
+     * {@link com.merakianalytics.clinic.Registry#fallback(Command, String[], int)}.
+     *
+     * @since 1.0.0
+     */
+    @FunctionalInterface
+    public static interface Invoker {
+        /**
+         * @param command
+         *        the command being executed
+         * @param arguments
+         *        the command line arguments
+         * @param start
+         *        the index of the first argument passed to the command. Arguments before it, like the command name, are skipped instead of being copied
+         *        out.
+         * @return the result of executing the command
+         */
+        public Object invoke(Command command, String[] arguments, int start);
+    }
+
+    /**
+     * The suffix appended to the name of a cli class to get the name of its generated registry
+     */
+    public static final String SUFFIX = "_ClinicRegistry";
+
+    /**
+     * Finds the end of a multi-argument option's values
+     *
+     * @param arguments
+     *        the arguments passed to the command
+     * @param start
+     *        the index of the first value
+     * @return the index after the last value
+     */
+    protected static int end(final String[] arguments, final int start) {
+        int end = start;
+        while(end < arguments.length && !arguments[end].startsWith("-")) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Executes a command with clinic's reflective engine. Generated invokers use this for anything they don't handle themselves, like --help and errors.
+     *
+     * @param command
+     *        the command to execute
+     * @param arguments
+     *        the command line arguments
+     * @param start
+     *        the index of the first argument passed to the command
+     * @return the result of executing the command
+     */
+    protected static Object fallback(final Command command, final String[] arguments, final int start) {
+        return command.executeReflectively(arguments, start);
+    }
+
+    /**
+     * Gets the generated registry for a cli class
+     *
+     * @param clazz
+     *        the cli class
+     * @return the generated registry for the cli class, or null if none was generated
+     */
+    public static Registry get(final Class<?> clazz) {
+        final Class<?> registryClass;
+        try {
+            registryClass = Class.forName(getName(clazz), true, clazz.getClassLoader());
+        } catch(final ClassNotFoundException e) {
+            return null;
+        }
+
+        if(!Registry.class.isAssignableFrom(registryClass)) {
+            return null;
+        }
+
+        try {
+            return (Registry)registryClass.getConstructor().newInstance();
+        } catch(final InstantiationException | IllegalAccessException | NoSuchMethodException | SecurityException e) {
+            throw new ClinicException("Couldn't instantiate the generated registry " + registryClass.getSimpleName() + " for " + clazz.getSimpleName()
+                + "! Try rebuilding your application.", e);
+        } catch(final InvocationTargetException e) {
+            final Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new ClinicException(cause);
+        }
+    }
+
+    /**
+     * @param command
+     *        the command
+     * @param index
+     *        the index of the option
+     * @return the default value for the option, copied if it's mutable so executions can't see each other's changes to it. Generated invokers only
+     *         call this for options the arguments didn't set.
+     */
+    protected static Object getDefaultValue(final Command command, final int index) {
+        final Option option = command.getOptions()[index];
+        return option.copyDefaultValue(option.getDefaultValue());
+    }
+
+    /**
+     * Gets the name of the generated registry for a cli class. Nested classes have the names of their enclosing classes joined with underscores, so the
+     * registry for {@code com.example.Outer.Inner} is {@code com.example.Outer_Inner_ClinicRegistry}.
+     *
+     * @param clazz
+     *        the cli class
+     * @return the fully qualified name of the generated registry
+     */
+    public static String getName(final Class<?> clazz) {
+        final String name = clazz.getName();
+        final int split = name.lastIndexOf('.') + 1;
+        return name.substring(0, split) + name.substring(split).replace('$', '_') + SUFFIX;
+    }
+
+    /**
+     * Converts option values for types generated invokers don't convert themselves. The values are read from the arguments in place, and are only
+     * copied if the option's type is String[].
+     *
+     * @param command
+     *        the command
+     * @param index
+     *        the index of the option
+     * @param arguments
+     *        the command line arguments
+     * @param start
+     *        the index of the option's first value, inclusive
+     * @param end
+     *        the index of the option's last value, exclusive
+     * @return the option's value
+     */
+    protected static Object getValue(final Command command, final int index, final String[] arguments, final int start, final int end) {
+        return command.getOptions()[index].getValue(new ArgumentWindow(arguments, start, end - start, true));
+    }
+
+    /**
+     * @param value
+     *        a char or Character argument
+     * @return the argument as a char
+     */
+    protected static char toChar(final String value) {
+        if(value.length() != 1) {
+            throw new IllegalArgumentException("char or Character arguments must be of length 1!");
+        }
+        return value.charAt(0);
+    }
+
+    /**
+     * @param value
+     *        an argument
+     * @return the argument without surrounding quotes
+     */
+    protected static String unquote(final String value) {
+        return Command.unquote(value);
+    }
+
+    /**
+     * @return the commands found in the cli class at compile time
+     */
+    public abstract Entry[] getEntries();
+}
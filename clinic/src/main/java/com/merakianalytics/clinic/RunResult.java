@@ -0,0 +1,73 @@
+package com.merakianalytics.clinic;
+
+import com.merakianalytics.clinic.exceptions.ClinicGetHelpException;
+import com.merakianalytics.clinic.exceptions.ClinicParseException;
+
+/**
+ * The result of running an invocation without printing. It has the same exit code as {@link com.merakianalytics.clinic.Application#run(String...)},
+ * but help prompts and error messages are kept in the result instead of being printed, and an exception thrown by the command is kept instead of
+ * thrown, so one failing invocation doesn't fail a batch.
+ *
+ * @see com.merakianalytics.clinic.Application#runAll(Iterable, java.util.concurrent.Executor)
+ * @see com.merakianalytics.clinic.Application#runResult(String...)
+ * @since 1.0.0
+ */
+public class RunResult {
+    private final String[] args;
+    private final int exitCode;
+    private final Object result;
+    private final RuntimeException thrown;
+
+    private static boolean isMessage(final RuntimeException thrown) {
+        return thrown instanceof ClinicGetHelpException || thrown instanceof ClinicParseException;
+    }
+
+    RunResult(final String[] args, final int exitCode, final Object result, final RuntimeException thrown) {
+        this.args = args;
+        this.exitCode = exitCode;
+        this.result = result;
+        this.thrown = thrown;
+    }
+
+    /**
+     * @return the command line arguments of the invocation
+     * @since 1.0.0
+     */
+    public String[] getArgs() {
+        return args;
+    }
+
+    /**
+     * @return the exception the command threw, or null if it didn't throw one. Help prompts and invalid arguments aren't errors; see
+     *         {@link #getMessage()}.
+     * @since 1.0.0
+     */
+    public RuntimeException getError() {
+        return isMessage(thrown) ? null : thrown;
+    }
+
+    /**
+     * @return the exit code of the invocation
+     * @since 1.0.0
+     */
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    /**
+     * @return the help prompt or error message that running the invocation would have printed, or null if there isn't one. It's built the first time
+     *         it's asked for.
+     * @since 1.0.0
+     */
+    public String getMessage() {
+        return isMessage(thrown) ? thrown.getMessage() : null;
+    }
+
+    /**
+     * @return the result of executing the command, or null if it wasn't executed or returned nothing
+     * @since 1.0.0
+     */
+    public Object getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,110 @@
+package com.merakianalytics.clinic;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+
+/**
+ * Runs command lines read from stdin one after another against one application, so the application is only built once and the JIT stays warm between
+ * commands. Each line is tokenized by {@link com.merakianalytics.clinic.Common#tokenize(String)} and run like
+ * {@link com.merakianalytics.clinic.Application#run(String...)} would run it, except that an exception thrown by a command is printed instead of
+ * ending the shell.
+ *
+ * Lines starting with : are commands for the shell itself, which can't clash with command names. The shell ends at the end of stdin or on :exit or :quit, and
+ * its exit code is the exit code of the last command it ran.
+ */
+final class Shell {
+    private static final String EXIT = ":exit";
+    private static final int FAILURE = 1;
+    private static final String HELP = ":help";
+    private static final String QUIT = ":quit";
+    private static final int SUCCESS = 0;
+    private static final String TIME = ":time";
+
+    private static String help(final Application application) {
+        final String newLine = System.lineSeparator();
+        return newLine + "Run any " + application.getExecutableName() + " command line, or one of:" + newLine + newLine + "  " + HELP
+            + "   Show this help" + newLine + "  " + TIME + "   Turn reporting how long each command takes on or off" + newLine + "  " + EXIT
+            + ", " + QUIT + "   Leave the shell" + newLine + newLine + "Use --help or COMMAND --help for help with the commands." + newLine + newLine;
+    }
+
+    /**
+     * @param application
+     *        the application to run each line with
+     * @param args
+     *        the command line arguments, starting with {@link com.merakianalytics.clinic.Common#SHELL_OPTION}
+     * @return the exit code of the shell
+     */
+    static int run(final Application application, final String[] args) {
+        final String newLine = System.lineSeparator();
+        final String usage = newLine + "Usage:  " + application.getExecutableName() + " " + Common.SHELL_OPTION + " [" + Common.TIME_OPTION + "]" + newLine
+            + newLine + "Runs command lines from stdin until it ends or :exit. " + Common.TIME_OPTION + " reports how long each command takes." + newLine;
+
+        boolean time = false;
+        for(int i = 1; i < args.length; i++) {
+            if(Common.TIME_OPTION.equals(args[i])) {
+                time = true;
+            } else if(Common.HELP_OPTION.equals(args[i])) {
+                System.out.print(usage);
+                return SUCCESS;
+            } else {
+                System.out.print("Unexpected argument: " + args[i] + "!" + newLine + usage);
+                return FAILURE;
+            }
+        }
+
+        // Stdin belongs to the caller, so it's never closed
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(System.in));
+        final String prompt = application.getExecutableName() + "> ";
+        int exitCode = SUCCESS;
+        while(true) {
+            System.out.print(prompt);
+            System.out.flush();
+
+            final String line;
+            try {
+                line = reader.readLine();
+            } catch(final IOException e) {
+                System.out.print(newLine + "Couldn't read from stdin: " + e + newLine);
+                return FAILURE;
+            }
+            if(line == null) {
+                System.out.print(newLine);
+                return exitCode;
+            }
+
+            final String trimmed = line.trim();
+            if(trimmed.isEmpty() || trimmed.charAt(0) == '#') {
+                continue;
+            } else if(EXIT.equals(trimmed) || QUIT.equals(trimmed)) {
+                return exitCode;
+            } else if(HELP.equals(trimmed)) {
+                System.out.print(help(application));
+                continue;
+            } else if(TIME.equals(trimmed)) {
+                time = !time;
+                System.out.print("Timing is " + (time ? "on" : "off") + newLine);
+                continue;
+            } else if(trimmed.charAt(0) == ':') {
+                System.out.print("Unrecognized shell command: " + trimmed + "!" + newLine + help(application));
+                continue;
+            }
+
+            final long start = System.nanoTime();
+            final RunResult result = application.runResult(Common.tokenize(trimmed));
+            final long elapsed = System.nanoTime() - start;
+
+            if(result.getMessage() != null) {
+                System.out.print(result.getMessage());
+            } else if(result.getError() != null) {
+                System.out.print(result.getError() + newLine);
+            }
+            if(time) {
+                System.out.print(String.format("(%.3f ms)", elapsed / 1e6) + newLine);
+            }
+            exitCode = result.getExitCode();
+        }
+    }
+
+    private Shell() {}
+}
@@ -0,0 +1,156 @@
+package com.merakianalytics.clinic;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Per-thread standard streams, for serving many invocations from one JVM. Clinic prints help prompts and errors to {@link java.lang.System#out}, and
+ * commands print wherever they like, so giving each invocation its own output means routing the global streams.
+ *
+ * While installed, {@link java.lang.System#in}, {@link java.lang.System#out} and {@link java.lang.System#err} are replaced with streams that route
+ * to the streams {@link #redirect(InputStream, OutputStream, OutputStream)} set for the current thread, or to the original streams on threads that
+ * haven't been redirected. Redirections aren't inherited, so output from threads a command starts goes to the original streams.
+ *
+ * @since 1.0.0
+ */
+public final class StandardStreams {
+    private static class Redirection {
+        private final OutputStream err;
+        private final InputStream in;
+        private final OutputStream out;
+
+        private Redirection(final InputStream in, final OutputStream out, final OutputStream err) {
+            this.in = in;
+            this.out = out;
+            this.err = err;
+        }
+    }
+
+    private static final ThreadLocal<Redirection> CURRENT = new ThreadLocal<>();
+    private static int installed;
+    private static PrintStream originalErr;
+    private static InputStream originalIn;
+    private static PrintStream originalOut;
+
+    /**
+     * Replaces the standard streams with ones that route to the current thread's redirection. Calls nest, and the original streams are restored once
+     * every call has been matched by {@link #uninstall()}.
+     *
+     * @since 1.0.0
+     */
+    public static synchronized void install() {
+        if(installed++ > 0) {
+            return;
+        }
+
+        originalIn = System.in;
+        originalOut = System.out;
+        originalErr = System.err;
+        System.setIn(route(originalIn));
+        System.setOut(new PrintStream(route(originalOut, false), true));
+        System.setErr(new PrintStream(route(originalErr, true), true));
+    }
+
+    /**
+     * Routes the current thread's standard streams to the provided streams, until {@link #restore()} is called. Only takes effect while the streams are
+     * installed.
+     *
+     * @param in
+     *        the stream to read stdin from
+     * @param out
+     *        the stream to write stdout to
+     * @param err
+     *        the stream to write stderr to
+     * @since 1.0.0
+     */
+    public static void redirect(final InputStream in, final OutputStream out, final OutputStream err) {
+        CURRENT.set(new Redirection(in, out, err));
+    }
+
+    /**
+     * Routes the current thread's standard streams back to the original streams
+     *
+     * @since 1.0.0
+     */
+    public static void restore() {
+        CURRENT.remove();
+    }
+
+    private static InputStream route(final InputStream original) {
+        return new InputStream() {
+            @Override
+            public int available() throws IOException {
+                final Redirection redirection = CURRENT.get();
+                return redirection != null ? redirection.in.available() : original.available();
+            }
+
+            @Override
+            public int read() throws IOException {
+                final Redirection redirection = CURRENT.get();
+                return redirection != null ? redirection.in.read() : original.read();
+            }
+
+            @Override
+            public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+                final Redirection redirection = CURRENT.get();
+                return redirection != null ? redirection.in.read(bytes, offset, length) : original.read(bytes, offset, length);
+            }
+        };
+    }
+
+    private static OutputStream route(final PrintStream original, final boolean error) {
+        return new OutputStream() {
+            @Override
+            public void flush() throws IOException {
+                final Redirection redirection = CURRENT.get();
+                if(redirection != null) {
+                    (error ? redirection.err : redirection.out).flush();
+                } else {
+                    original.flush();
+                }
+            }
+
+            @Override
+            public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+                final Redirection redirection = CURRENT.get();
+                if(redirection != null) {
+                    (error ? redirection.err : redirection.out).write(bytes, offset, length);
+                } else {
+                    original.write(bytes, offset, length);
+                }
+            }
+
+            @Override
+            public void write(final int b) throws IOException {
+                final Redirection redirection = CURRENT.get();
+                if(redirection != null) {
+                    (error ? redirection.err : redirection.out).write(b);
+                } else {
+                    original.write(b);
+                }
+            }
+        };
+    }
+
+    /**
+     * Restores the original standard streams, once every call to {@link #install()} has been matched
+     *
+     * @since 1.0.0
+     */
+    public static synchronized void uninstall() {
+        if(installed == 0 || --installed > 0) {
+            return;
+        }
+
+        System.setIn(originalIn);
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+        originalIn = null;
+        originalOut = null;
+        originalErr = null;
+    }
+
+    private StandardStreams() {}
+}
@@ -0,0 +1,20 @@
+package com.merakianalytics.clinic;
+
+/**
+ * Creates the threads the builder runs applications on. This version only has platform threads to offer; the clinic JAR is multi-release, and on Java
+ * 21 and up it's replaced with a version that can create virtual threads.
+ */
+final class Threads {
+    /**
+     * @param runnable
+     *        the runnable for the thread to run
+     * @param virtual
+     *        whether to create a virtual thread, if the runtime has them
+     * @return an un-started thread that runs the runnable
+     */
+    static Thread newThread(final Runnable runnable, final boolean virtual) {
+        return new Thread(runnable);
+    }
+
+    private Threads() {}
+}
@@ -0,0 +1,210 @@
+package com.merakianalytics.clinic.collections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A growable list of doubles backed by a double[]. Use it as the type of a multi-argument option that takes a lot of doubles: clinic fills it without
+ * boxing, and each element costs 8 bytes instead of the 24 bytes of a {@link java.lang.Double} plus a reference in a {@link java.util.List}.
+ *
+ * The boxed {@link java.util.List} methods are supported so it can be used anywhere a List&lt;Double&gt; is expected, but the double methods
+ * ({@link #add(double)}, {@link #getDouble(int)}, {@link #setDouble(int, double)}, {@link #contains(double)}, {@link #toDoubleArray()}) avoid boxing. Null elements
+ * aren't supported.
+ *
+ * @since 1.0.0
+ */
+public class DoubleList extends AbstractList<Double> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final double[] EMPTY = new double[0];
+
+    /**
+     * @param values
+     *        the values to put in the list
+     * @return a new list with the values
+     */
+    public static DoubleList of(final double... values) {
+        final DoubleList list = new DoubleList(values.length);
+        System.arraycopy(values, 0, list.elements, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    private double[] elements;
+    private int size;
+
+    public DoubleList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity
+     *        the number of elements the list can hold before it needs to grow
+     */
+    public DoubleList(final int capacity) {
+        if(capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative, but was " + capacity + "!");
+        }
+        elements = capacity == 0 ? EMPTY : new double[capacity];
+    }
+
+    /**
+     * @param value
+     *        the value to add to the end of the list
+     * @return true
+     */
+    public boolean add(final double value) {
+        if(size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(final int index, final Double element) {
+        checkPositionIndex(index);
+        final double value = element;
+        if(size == elements.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+        modCount++;
+    }
+
+    private void checkElementIndex(final int index) {
+        if(index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkPositionIndex(final int index) {
+        if(index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * @param value
+     *        the value to look for
+     * @return whether the list contains the value
+     */
+    public boolean contains(final double value) {
+        return indexOf(value) >= 0;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * @param capacity
+     *        the number of elements the list should be able to hold without growing
+     */
+    public void ensureCapacity(final int capacity) {
+        if(capacity > elements.length) {
+            grow(capacity);
+        }
+    }
+
+    @Override
+    public Double get(final int index) {
+        return getDouble(index);
+    }
+
+    /**
+     * @param index
+     *        the index of the element to get
+     * @return the element at the index
+     */
+    public double getDouble(final int index) {
+        checkElementIndex(index);
+        return elements[index];
+    }
+
+    private void grow(final int capacity) {
+        final int grown = elements.length + (elements.length >> 1);
+        elements = Arrays.copyOf(elements, Math.max(Math.max(grown, capacity), DEFAULT_CAPACITY));
+    }
+
+    /**
+     * Compares values the same way {@link java.lang.Double#equals(Object)} does, so NaN can be found and 0.0 and -0.0 are different
+     *
+     * @param value
+     *        the value to look for
+     * @return the index of the first occurrence of the value, or -1 if the list doesn't contain it
+     */
+    public int indexOf(final double value) {
+        for(int i = 0; i < size; i++) {
+            if(Double.doubleToLongBits(elements[i]) == Double.doubleToLongBits(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        return o instanceof Double ? indexOf(((Double)o).doubleValue()) : -1;
+    }
+
+    @Override
+    public Double remove(final int index) {
+        checkElementIndex(index);
+        final double value = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+        return value;
+    }
+
+    @Override
+    public Double set(final int index, final Double element) {
+        return setDouble(index, element);
+    }
+
+    /**
+     * @param index
+     *        the index of the element to replace
+     * @param value
+     *        the new value
+     * @return the previous element at the index
+     */
+    public double setDouble(final int index, final double value) {
+        checkElementIndex(index);
+        final double previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return a new double[] with the list's elements
+     */
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Shrinks the backing array to the list's size
+     */
+    public void trimToSize() {
+        if(elements.length != size) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.merakianalytics.clinic.collections;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of ints backed by an open-addressing hash table of ints. Use it as the type of a multi-argument option that takes a lot of ints: clinic
+ * fills it without boxing, and each element costs 4-8 bytes instead of the 40+ bytes of a {@link java.util.HashSet}&lt;Integer&gt; entry.
+ *
+ * The boxed {@link java.util.Set} methods are supported so it can be used anywhere a Set&lt;Integer&gt; is expected, but the int methods
+ * ({@link #add(int)}, {@link #contains(int)}, {@link #remove(int)}, {@link #toIntArray()}) avoid boxing. Null elements aren't supported, and
+ * iteration order is unspecified. The iterator doesn't support removal; use {@link #remove(int)} instead.
+ *
+ * @see com.merakianalytics.clinic.collections.IntList
+ * @since 1.0.0
+ */
+public class IntSet extends AbstractSet<Integer> {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private static int capacity(final int expectedSize) {
+        final long minimum = (long)Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR) + 1;
+        return minimum >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Integer.highestOneBit((int)minimum - 1) << 1;
+    }
+
+    private static int hash(final int value) {
+        final int hash = value * 0x9E3779B9;
+        return hash ^ hash >>> 16;
+    }
+
+    // 0 marks an empty slot in the table, so it's tracked separately
+    private boolean containsZero;
+    private int modCount;
+    private int size;
+    private int[] table;
+    private int threshold;
+
+    public IntSet() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * @param expectedSize
+     *        the number of elements the set can hold before it needs to grow
+     */
+    public IntSet(final int expectedSize) {
+        if(expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must be non-negative, but was " + expectedSize + "!");
+        }
+        allocate(capacity(expectedSize));
+    }
+
+    /**
+     * @param value
+     *        the value to add
+     * @return whether the set changed
+     */
+    public boolean add(final int value) {
+        if(value == 0) {
+            if(containsZero) {
+                return false;
+            }
+            containsZero = true;
+        } else {
+            final int mask = table.length - 1;
+            int index = hash(value) & mask;
+            while(table[index] != 0) {
+                if(table[index] == value) {
+                    return false;
+                }
+                index = index + 1 & mask;
+            }
+            table[index] = value;
+        }
+        size++;
+        modCount++;
+        if(size > threshold && table.length < MAXIMUM_CAPACITY) {
+            rehash(table.length << 1);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean add(final Integer element) {
+        return add(element.intValue());
+    }
+
+    private void allocate(final int capacity) {
+        table = new int[capacity];
+        threshold = (int)(capacity * LOAD_FACTOR);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(table, 0);
+        containsZero = false;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * @param value
+     *        the value to look for
+     * @return whether the set contains the value
+     */
+    public boolean contains(final int value) {
+        if(value == 0) {
+            return containsZero;
+        }
+        return find(value) >= 0;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return o instanceof Integer && contains(((Integer)o).intValue());
+    }
+
+    private int find(final int value) {
+        final int mask = table.length - 1;
+        int index = hash(value) & mask;
+        while(table[index] != 0) {
+            if(table[index] == value) {
+                return index;
+            }
+            index = index + 1 & mask;
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<Integer>() {
+            private final int expectedModCount = modCount;
+            private int index = containsZero ? -1 : next(0);
+
+            @Override
+            public boolean hasNext() {
+                return index < table.length;
+            }
+
+            @Override
+            public Integer next() {
+                if(modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if(index >= table.length) {
+                    throw new NoSuchElementException();
+                }
+                final int value = index < 0 ? 0 : table[index];
+                index = next(index + 1);
+                return value;
+            }
+
+            private int next(int from) {
+                while(from < table.length && table[from] == 0) {
+                    from++;
+                }
+                return from;
+            }
+        };
+    }
+
+    private void rehash(final int capacity) {
+        final int[] old = table;
+        allocate(capacity);
+        final int mask = table.length - 1;
+        for(final int value : old) {
+            if(value != 0) {
+                int index = hash(value) & mask;
+                while(table[index] != 0) {
+                    index = index + 1 & mask;
+                }
+                table[index] = value;
+            }
+        }
+    }
+
+    /**
+     * @param value
+     *        the value to remove
+     * @return whether the set changed
+     */
+    public boolean remove(final int value) {
+        if(value == 0) {
+            if(!containsZero) {
+                return false;
+            }
+            containsZero = false;
+        } else {
+            final int index = find(value);
+            if(index < 0) {
+                return false;
+            }
+
+            // Shift back any later entries in the same probe run so lookups don't stop early at the hole
+            final int mask = table.length - 1;
+            int gap = index;
+            int next = index;
+            while(true) {
+                next = next + 1 & mask;
+                final int current = table[next];
+                if(current == 0) {
+                    break;
+                }
+                final int home = hash(current) & mask;
+                if(next > gap ? home <= gap || home > next : home <= gap && home > next) {
+                    table[gap] = current;
+                    gap = next;
+                }
+            }
+            table[gap] = 0;
+        }
+        size--;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        return o instanceof Integer && remove(((Integer)o).intValue());
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> c) {
+        boolean changed = false;
+        for(final Object o : c) {
+            changed |= remove(o);
+        }
+        return changed;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return a new int[] with the set's elements, in unspecified order
+     */
+    public int[] toIntArray() {
+        final int[] result = new int[size];
+        int i = 0;
+        if(containsZero) {
+            result[i++] = 0;
+        }
+        for(final int value : table) {
+            if(value != 0) {
+                result[i++] = value;
+            }
+        }
+        return result;
+    }
+}
@@ -1,5 +1,9 @@
 package com.merakianalytics.clinic.exceptions;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.function.Supplier;
+
 /**
  * An exception relating to clinic
  *
@@ -8,6 +12,9 @@ package com.merakianalytics.clinic.exceptions;
 public class ClinicException extends RuntimeException {
     private static final long serialVersionUID = 9222740639776898149L;
 
+    private transient volatile Supplier<String> message;
+    private volatile String rendered;
+
     /**
      * @param message
      *        the error message
@@ -26,6 +33,20 @@ public class ClinicException extends RuntimeException {
         super(message, cause);
     }
 
+    /**
+     * @param message
+     *        supplies the error message the first time it's asked for. Clinic's parser uses this so callers that never look at the message don't pay
+     *        to render it.
+     * @param cause
+     *        the cause of the error
+     * @param writableStackTrace
+     *        whether to fill in the stack trace. Clinic's parser throws its exceptions without one, since they report bad input rather than bugs.
+     */
+    protected ClinicException(final Supplier<String> message, final Throwable cause, final boolean writableStackTrace) {
+        super(null, cause, true, writableStackTrace);
+        this.message = message;
+    }
+
     /**
      * @param cause
      *        the cause of the error
@@ -33,4 +54,20 @@ public class ClinicException extends RuntimeException {
     public ClinicException(final Throwable cause) {
         super(null, cause);
     }
+
+    @Override
+    public String getMessage() {
+        // Racing threads may both render the message, but the supplier renders the same message every time
+        final Supplier<String> supplier = message;
+        if(supplier != null) {
+            rendered = supplier.get();
+            message = null;
+        }
+        return rendered != null ? rendered : super.getMessage();
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        getMessage();
+        out.defaultWriteObject();
+    }
 }
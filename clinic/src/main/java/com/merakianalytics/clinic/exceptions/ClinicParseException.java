@@ -1,5 +1,7 @@
 package com.merakianalytics.clinic.exceptions;
 
+import java.util.function.Supplier;
+
 /**
  * Thrown when the command line arguments passed to clinic are invalid
  *
@@ -25,4 +27,16 @@ public class ClinicParseException extends ClinicException {
     public ClinicParseException(final String message, final Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * @param message
+     *        supplies the error message the first time it's asked for
+     * @param cause
+     *        the cause of the error
+     * @param writableStackTrace
+     *        whether to fill in the stack trace
+     */
+    public ClinicParseException(final Supplier<String> message, final Throwable cause, final boolean writableStackTrace) {
+        super(message, cause, writableStackTrace);
+    }
 }
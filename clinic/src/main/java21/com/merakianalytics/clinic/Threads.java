@@ -0,0 +1,19 @@
+package com.merakianalytics.clinic;
+
+/**
+ * Creates the threads the builder runs applications on. This is the Java 21 version from the multi-release JAR, which can create virtual threads.
+ */
+final class Threads {
+    /**
+     * @param runnable
+     *        the runnable for the thread to run
+     * @param virtual
+     *        whether to create a virtual thread, if the runtime has them
+     * @return an un-started thread that runs the runnable
+     */
+    static Thread newThread(final Runnable runnable, final boolean virtual) {
+        return virtual ? Thread.ofVirtual().unstarted(runnable) : new Thread(runnable);
+    }
+
+    private Threads() {}
+}
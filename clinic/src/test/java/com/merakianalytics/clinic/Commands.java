@@ -1,16 +1,31 @@
 package com.merakianalytics.clinic;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.merakianalytics.clinic.annotations.ExpectedCommand;
 import com.merakianalytics.clinic.annotations.ExpectedResultType;
 
 public abstract class Commands {
+    public static abstract class Async {
+        public static final ConcurrentMap<String, CompletableFuture<String>> PENDING = new ConcurrentHashMap<>();
+
+        @com.merakianalytics.clinic.annotations.AutoCommand
+        public static CompletableFuture<String> later(final String value) {
+            return PENDING.computeIfAbsent(value, (final String key) -> new CompletableFuture<>());
+        }
+    }
+
     public static abstract class Basic {
         @ExpectedCommand(name = "package-command", help = TestCommon.NULL_STRING, defaultCommand = false)
         @com.merakianalytics.clinic.annotations.Command
@@ -175,6 +190,27 @@ public abstract class Commands {
         }
     }
 
+    public static abstract class Counted {
+        public static final AtomicInteger COUNT = new AtomicInteger();
+
+        @com.merakianalytics.clinic.annotations.AutoCommand
+        public static void fail(final int value, @com.merakianalytics.clinic.annotations.Option(type = Integer.class) final List<Integer> values) {
+            COUNT.incrementAndGet();
+            throw new IllegalStateException(Integer.toString(value));
+        }
+    }
+
+    public static abstract class Defaults {
+        @com.merakianalytics.clinic.annotations.AutoCommand
+        public static String defaults(@com.merakianalytics.clinic.annotations.Option(names = {"c", "count"}, defaultInt = 3) final int count,
+            @com.merakianalytics.clinic.annotations.Option(defaultString = "hello") final String message,
+            @com.merakianalytics.clinic.annotations.Option(flag = true) final boolean loud,
+            @com.merakianalytics.clinic.annotations.Option(defaultInts = {1, 2}) final int[] numbers,
+            @com.merakianalytics.clinic.annotations.Option(required = true) final Integer id) {
+            return Arrays.deepToString(new Object[] {count, message, loud, numbers, id});
+        }
+    }
+
     public static abstract class Doubles {
         @com.merakianalytics.clinic.annotations.AutoCommand
         public static double[] array(final double... input) {
@@ -396,6 +432,17 @@ public abstract class Commands {
         }
     }
 
+    public static abstract class MutatesDefaults {
+        @com.merakianalytics.clinic.annotations.Command
+        public static String mutate(@com.merakianalytics.clinic.annotations.Option(defaultInts = {1, 2, 3}) final int[] array,
+            @com.merakianalytics.clinic.annotations.Option(type = Integer.class, defaultInts = {1, 2, 3}) final List<Integer> list) {
+            final String seen = Arrays.toString(array) + list;
+            array[0] = -1;
+            list.add(-1);
+            return seen;
+        }
+    }
+
     public static abstract class Native {
         @ExpectedCommand(name = "package-command", help = TestCommon.NULL_STRING, defaultCommand = false)
         @com.merakianalytics.clinic.annotations.Command
@@ -444,6 +491,20 @@ public abstract class Commands {
         }
     }
 
+    public static abstract class Recorded {
+        public static final List<String> RECORDED = Collections.synchronizedList(new ArrayList<>());
+
+        @com.merakianalytics.clinic.annotations.AutoCommand
+        public static void fail(final String value) {
+            throw new IllegalStateException(value);
+        }
+
+        @com.merakianalytics.clinic.annotations.AutoCommand
+        public static void record(final String value) {
+            RECORDED.add(value);
+        }
+    }
+
     public static abstract class Shorts {
         @com.merakianalytics.clinic.annotations.AutoCommand
         public static short[] array(final short... input) {
@@ -578,6 +639,28 @@ public abstract class Commands {
         }
     }
 
+    public static abstract class Throws {
+        @com.merakianalytics.clinic.annotations.Command
+        public static void checked() throws IOException {
+            throw new IOException("checked");
+        }
+
+        @com.merakianalytics.clinic.annotations.Command
+        public static void error() {
+            throw new AssertionError("error");
+        }
+
+        @com.merakianalytics.clinic.annotations.Command
+        private static void inaccessible() {
+            return;
+        }
+
+        @com.merakianalytics.clinic.annotations.Command
+        public static void unchecked() {
+            throw new IllegalStateException("unchecked");
+        }
+    }
+
     public static abstract class ValidTypes {
         @com.merakianalytics.clinic.annotations.AutoCommand
         public static SomeType[] array(final SomeType... input) {
@@ -614,6 +697,18 @@ public abstract class Commands {
         }
     }
 
+    public static abstract class WithBadCommand {
+        @com.merakianalytics.clinic.annotations.Command
+        public static int bad(final int input) {
+            return input;
+        }
+
+        @com.merakianalytics.clinic.annotations.Command
+        public static int good(@com.merakianalytics.clinic.annotations.Option final int input) {
+            return input;
+        }
+    }
+
     public static abstract class WithDefaultCommand {
         @ExpectedCommand(name = "package-command", help = TestCommon.NULL_STRING, defaultCommand = true)
         @com.merakianalytics.clinic.annotations.Command(defaultCommand = true)
@@ -0,0 +1,24 @@
+package com.merakianalytics.clinic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs against the packaged multi-release JAR on Java 21, since the JVM only loads the classes under META-INF/versions from JARs
+ */
+public class ITVirtualThreads {
+    @Test
+    public void testVirtualThreads() throws Exception {
+        final Method isVirtual = Thread.class.getMethod("isVirtual");
+        final Clinic.Builder builder = Clinic.cli(Commands.Integers.class).args(new String[] {"basic", "--input", "1"}).virtualThreads();
+        assertTrue((boolean)isVirtual.invoke(builder.getThread()));
+        assertEquals(0, (int)builder.await().get(1, TimeUnit.SECONDS));
+        assertFalse((boolean)isVirtual.invoke(Clinic.cli(Commands.Integers.class).getThread()));
+    }
+}
@@ -1,12 +1,25 @@
 package com.merakianalytics.clinic;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import com.merakianalytics.clinic.annotations.ExpectedOption;
+import com.merakianalytics.clinic.collections.DoubleList;
+import com.merakianalytics.clinic.collections.IntList;
+import com.merakianalytics.clinic.collections.IntSet;
+import com.merakianalytics.clinic.collections.LongList;
+import com.merakianalytics.clinic.collections.LongSet;
 
 public abstract class Options {
     public static abstract class BadType {
@@ -545,6 +558,19 @@ public abstract class Options {
         }
     }
 
+    public static abstract class Collections {
+        public static void collections(
+            @com.merakianalytics.clinic.annotations.Option(type = Integer.class, defaultInts = {3, 1, 2}) final BlockingQueue<Integer> blockingQueue,
+            @com.merakianalytics.clinic.annotations.Option(type = Integer.class) final Deque<Integer> deque,
+            @com.merakianalytics.clinic.annotations.Option(type = Integer.class) final LinkedList<Integer> linkedList,
+            @com.merakianalytics.clinic.annotations.Option(type = Integer.class) final Set<Integer> set,
+            @com.merakianalytics.clinic.annotations.Option(type = Integer.class, defaultValues = {"3", "1", "2", "1"}) final SortedSet<Integer> sortedSet,
+            @com.merakianalytics.clinic.annotations.Option(type = String.class) final TreeSet<String> treeSet,
+            @com.merakianalytics.clinic.annotations.Option(type = Integer.class) final ArrayBlockingQueue<Integer> arrayBlockingQueue) {
+            return;
+        }
+    }
+
     public static abstract class Doubles {
         public static void doubles(
             @ExpectedOption(names = {"--basic"},
@@ -718,6 +744,42 @@ public abstract class Options {
         }
     }
 
+    public static abstract class Factories {
+        public static enum Color {
+            BLUE, GREEN, RED
+        }
+
+        public static class Named {
+            public static Named fromString(final String name) {
+                return new Named(name);
+            }
+
+            private final String name;
+
+            private Named(final String name) {
+                this.name = name;
+            }
+
+            @Override
+            public boolean equals(final Object obj) {
+                return obj instanceof Named && name.equals(((Named)obj).name);
+            }
+
+            @Override
+            public int hashCode() {
+                return name.hashCode();
+            }
+        }
+
+        public static void factories(@com.merakianalytics.clinic.annotations.Option(defaultValue = "GREEN") final Color color,
+            @com.merakianalytics.clinic.annotations.Option(defaultValue = "2018-07-04") final LocalDate date,
+            @com.merakianalytics.clinic.annotations.Option final Duration duration, @com.merakianalytics.clinic.annotations.Option final Named named,
+            @com.merakianalytics.clinic.annotations.Option(type = Color.class, defaultValues = {"RED", "BLUE"}) final List<Color> colors,
+            @com.merakianalytics.clinic.annotations.Option final LocalDate[] dates) {
+            return;
+        }
+    }
+
     public static abstract class Flag {
         public static abstract class NonBoolean {
             public static void nonBoolean(@com.merakianalytics.clinic.annotations.Option(flag = true) final String flag) {
@@ -1135,6 +1197,13 @@ public abstract class Options {
         }
     }
 
+    public static abstract class LazyDefault {
+        public static void lazyDefault(@com.merakianalytics.clinic.annotations.Option(defaultValue = "not-an-int") final int bad,
+            @com.merakianalytics.clinic.annotations.Option(type = Integer.class, defaultValues = {"1", "2", "3"}) final List<Integer> list) {
+            return;
+        }
+    }
+
     public static abstract class Longs {
         public static void longs(
             @ExpectedOption(names = {"--basic"},
@@ -1386,6 +1455,22 @@ public abstract class Options {
         }
     }
 
+    public static abstract class PrimitiveCollections {
+        public static abstract class WrongType {
+            public static void wrongType(@com.merakianalytics.clinic.annotations.Option(type = Long.class) final IntList ints) {
+                return;
+            }
+        }
+
+        public static void primitiveCollections(@com.merakianalytics.clinic.annotations.Option(defaultInts = {1, 2, 3}) final IntList ints,
+            @com.merakianalytics.clinic.annotations.Option(defaultValues = {"4", "5"}) final LongList longs,
+            @com.merakianalytics.clinic.annotations.Option final DoubleList doubles,
+            @com.merakianalytics.clinic.annotations.Option(type = Integer.class) final IntSet intSet,
+            @com.merakianalytics.clinic.annotations.Option(defaultLongs = {6L, 6L, 7L}) final LongSet longSet) {
+            return;
+        }
+    }
+
     public static abstract class Required {
         public static void required(
             @ExpectedOption(names = {"--on"},
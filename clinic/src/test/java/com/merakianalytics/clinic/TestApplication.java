@@ -0,0 +1,409 @@
+package com.merakianalytics.clinic;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.merakianalytics.clinic.exceptions.ClinicAnnotationException;
+import com.merakianalytics.clinic.exceptions.ClinicGetHelpException;
+import com.merakianalytics.clinic.exceptions.ClinicParseException;
+
+public class TestApplication {
+    @Test
+    public void testCompile() {
+        final Application application = Clinic.cli(Commands.Basic.class).executableName("test").help("help").compile();
+
+        assertEquals("test", application.getExecutableName());
+        assertEquals("help", application.getHelp());
+        assertEquals(4, application.getCommands().size());
+        assertNull(application.getDefaultCommand());
+        for(final Command command : application.getCommands()) {
+            assertSame(command, application.getCommand(command.getName()));
+        }
+        assertNull(application.getCommand("not-a-command"));
+    }
+
+    @Test
+    public void testCompileBadDefaultCommands() {
+        assertThrows(ClinicAnnotationException.class, () -> {
+            Clinic.cli(Commands.WithDefaultCommand.class).compile();
+        });
+    }
+
+    @Test
+    public void testCompileNoCommands() {
+        assertThrows(ClinicAnnotationException.class, () -> {
+            Clinic.cli(TestApplication.class).compile();
+        });
+    }
+
+    @Test
+    public void testExecute() {
+        final Application application = Clinic.cli(Commands.Integers.class).compile();
+
+        for(int i = 0; i < 10; i++) {
+            assertEquals(i, application.execute("basic", "--input", Integer.toString(i)));
+        }
+
+        assertThrows(ClinicGetHelpException.class, () -> {
+            application.execute("--help");
+        });
+
+        assertThrows(ClinicGetHelpException.class, () -> {
+            application.execute("basic", "--help");
+        });
+
+        assertThrows(ClinicParseException.class, () -> {
+            application.execute("not-a-command");
+        });
+
+        assertThrows(ClinicParseException.class, () -> {
+            application.execute();
+        });
+
+        assertThrows(ClinicParseException.class, () -> {
+            application.execute("basic", "--input", "hello");
+        });
+    }
+
+    @Test
+    public void testExecuteArgumentWindows() {
+        for(final boolean registry : new boolean[] {true, false}) {
+            final Application application = Clinic.cli(Commands.Strings.class).registry(registry).compile();
+
+            // Values are read from the arguments in place, so the arguments must come out unchanged and String[] values must be copies
+            final String[] args = new String[] {"array", "--input", "'a'", "\"b\"", "c"};
+            final Object array = application.execute(args);
+            assertArrayEquals(new String[] {"a", "b", "c"}, (String[])array);
+            assertArrayEquals(new String[] {"array", "--input", "'a'", "\"b\"", "c"}, args);
+
+            assertEquals(Arrays.asList("a", "b", "c"), application.execute("list", "--input", "'a'", "\"b\"", "c"));
+            assertEquals("a", application.execute("basic", "--input", "'a'"));
+        }
+    }
+
+    @Test
+    public void testExecuteDefaultCommand() {
+        final Application application = Clinic.cli(Commands.MultipleArguments.class).compile();
+
+        assertSame(application.getCommand("many"), application.getDefaultCommand());
+        assertEquals(application.execute("many", "--two", "5"), application.execute("--two", "5"));
+    }
+
+    @Test
+    public void testHelp() {
+        final String n = System.lineSeparator();
+        final Application application = Clinic.cli(Commands.WithHelp.class).executableName("test").help("Does things").compile();
+        final String help = n + "Usage:  test COMMAND" + n + n + "Does things" + n + n + "Commands:" + n
+            + "  package-command     8ee44584-ae43-4ac4-8b21-efc6ab31899e" + n
+            + "  private-command     a0f91db2-11c7-47ca-ae84-667545f64c5a" + n
+            + "  protected-command   2d049024-63ce-4572-bc74-8f0ab1e20ff8" + n
+            + "  public-command      04a2cd1d-91aa-4144-bfec-7f3413cba61b" + n + n
+            + "Run 'test COMMAND --help' for more information on a command." + n + n;
+        assertEquals(help, application.parse("--help").getMessage());
+        assertSame(application.parse("--help").getMessage(), application.parse("--help").getMessage());
+        assertEquals("Unrecognized command: nope!" + n + help, application.parse("nope").getMessage());
+
+        final Application defaults = Clinic.cli(Commands.Defaults.class).executableName("test").compile();
+        assertEquals(n + "Usage:  test defaults [OPTIONS]" + n + n + "Options:" + n
+            + "  -c, --count   (default 3)" + n
+            + "  --message     (default hello)" + n
+            + "  --loud        (default false)" + n
+            + "  --numbers     (default 1, 2)" + n
+            + "  --id          (required)" + n + n, defaults.parse("defaults", "--help").getMessage());
+    }
+
+    @Test
+    public void testParse() {
+        final Application application = Clinic.cli(Commands.Integers.class).compile();
+
+        final ParseResult success = application.parse("basic", "--input", "5");
+        assertTrue(success.isSuccess());
+        assertSame(application.getCommand("basic"), success.getCommand());
+        assertEquals(5, success.execute());
+
+        assertEquals(ParseResult.Status.HELP, application.parse("--help").getStatus());
+        assertEquals(ParseResult.Status.HELP, application.parse("basic", "--help").getStatus());
+
+        final ParseResult unrecognized = application.parse("not-a-command");
+        assertEquals(ParseResult.ErrorType.UNRECOGNIZED_COMMAND, unrecognized.getErrorType());
+        assertEquals("not-a-command", unrecognized.getArgument());
+        assertEquals(assertThrows(ClinicParseException.class, () -> application.execute("not-a-command")).getMessage(), unrecognized.getMessage());
+
+        assertEquals(ParseResult.ErrorType.NO_COMMAND, application.parse().getErrorType());
+
+        // Positions are indices into the arguments given to the application, including the command name
+        final ParseResult conversion = application.parse("basic", "--input", "hello");
+        assertEquals(ParseResult.ErrorType.CONVERSION_FAILED, conversion.getErrorType());
+        assertEquals("--input", conversion.getOption());
+        assertEquals(2, conversion.getPosition());
+    }
+
+    @Test
+    public void testRun() {
+        final Application application = Clinic.cli(Commands.Integers.class).compile();
+
+        for(int i = 0; i < 10; i++) {
+            assertEquals(0, application.run("basic", "--input", Integer.toString(i)));
+        }
+        assertEquals(0, application.run("--help"));
+        assertEquals(1, application.run("not-a-command"));
+        assertEquals(1, application.run());
+        assertEquals(1, application.run("basic", "--input", "hello"));
+    }
+
+    @Test
+    public void testRunAsync() throws Exception {
+        final Application application = Clinic.cli(Commands.Async.class).compile();
+
+        // The future completes with the command's stage, not when the command returns
+        final CompletableFuture<Integer> pending = application.runAsync("--value", "run-async");
+        assertFalse(pending.isDone());
+        Commands.Async.PENDING.get("run-async").complete("done");
+        assertEquals(0, (int)pending.get(1, TimeUnit.SECONDS));
+
+        final CompletableFuture<Integer> failed = application.runAsync("--value", "run-async-failed");
+        Commands.Async.PENDING.get("run-async-failed").completeExceptionally(new IOException("failed"));
+        final ExecutionException exception = assertThrows(ExecutionException.class, () -> failed.get(1, TimeUnit.SECONDS));
+        assertEquals(RuntimeException.class, exception.getCause().getClass());
+        assertEquals(IOException.class, exception.getCause().getCause().getClass());
+
+        assertEquals(0, (int)application.runAsync("--help").get());
+        assertEquals(1, (int)application.runAsync("not-a-command").get());
+        assertThrows(ExecutionException.class, () -> Clinic.cli(Commands.Throws.class).compile().runAsync("unchecked").get());
+
+        // Running synchronously waits for the stage
+        Commands.Async.PENDING.put("run", CompletableFuture.completedFuture("done"));
+        assertEquals(0, application.run("--value", "run"));
+        assertEquals("done", application.runResult("--value", "run").getResult());
+        assertEquals(IOException.class, application.runResult("--value", "run-async-failed").getError().getCause().getClass());
+        assertThrows(RuntimeException.class, () -> application.run("--value", "run-async-failed"));
+
+        final Future<Integer> awaited = Clinic.cli(Commands.Async.class).args(new String[] {"--value", "await"}).await();
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Integer> submitted = Clinic.cli(Commands.Async.class).args(new String[] {"--value", "submit"}).submit(service);
+            while(!Commands.Async.PENDING.containsKey("await") || !Commands.Async.PENDING.containsKey("submit")) {
+                Thread.sleep(1);
+            }
+            assertFalse(awaited.isDone());
+            assertFalse(submitted.isDone());
+            Commands.Async.PENDING.get("await").complete("done");
+            Commands.Async.PENDING.get("submit").complete("done");
+            assertEquals(0, (int)awaited.get(1, TimeUnit.SECONDS));
+            assertEquals(0, (int)submitted.get(1, TimeUnit.SECONDS));
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testRunLazily() {
+        for(final boolean registry : new boolean[] {true, false}) {
+            // Only the selected command is built, so a misconfigured command is reported when it's used or when everything is validated
+            assertEquals(0, Clinic.cli(Commands.WithBadCommand.class).registry(registry).args(new String[] {"good", "--input", "1"}).run());
+            assertEquals(0, Clinic.cli(Commands.WithBadCommand.class).registry(registry).args(new String[] {"--help"}).run());
+            assertThrows(ClinicAnnotationException.class, () -> {
+                Clinic.cli(Commands.WithBadCommand.class).registry(registry).args(new String[] {"bad", "--input", "1"}).run();
+            });
+            assertThrows(ClinicAnnotationException.class, () -> {
+                Clinic.cli(Commands.WithBadCommand.class).registry(registry).validate().args(new String[] {"good", "--input", "1"}).run();
+            });
+            assertThrows(ClinicAnnotationException.class, () -> {
+                Clinic.cli(Commands.WithBadCommand.class).registry(registry).compile();
+            });
+        }
+    }
+
+    @Test
+    public void testRunAll() {
+        final List<String[]> invocations = new ArrayList<>();
+        for(int i = 0; i < 1000; i++) {
+            invocations.add(new String[] {"basic", "--input", Integer.toString(i)});
+        }
+        invocations.add(new String[] {"--help"});
+        invocations.add(new String[] {"not-a-command"});
+        invocations.add(new String[] {"basic", "--input", "hello"});
+
+        final ExecutorService service = Executors.newFixedThreadPool(8);
+        try {
+            final List<RunResult> results = Clinic.cli(Commands.Integers.class).compile().runAll(invocations, service);
+            assertEquals(invocations.size(), results.size());
+            for(int i = 0; i < 1000; i++) {
+                assertSame(invocations.get(i), results.get(i).getArgs());
+                assertEquals(0, results.get(i).getExitCode());
+                assertEquals(i, results.get(i).getResult());
+                assertNull(results.get(i).getMessage());
+            }
+
+            final RunResult help = results.get(1000);
+            assertEquals(0, help.getExitCode());
+            assertTrue(help.getMessage().contains("Usage:"));
+            assertNull(help.getError());
+            assertEquals(1, results.get(1001).getExitCode());
+            assertTrue(results.get(1001).getMessage().contains("Unrecognized command: not-a-command!"));
+            assertEquals(1, results.get(1002).getExitCode());
+            assertNotNull(results.get(1002).getMessage());
+
+            // Exceptions thrown by a command fail its invocation rather than the batch
+            final List<RunResult> thrown = Clinic.cli(Commands.Throws.class).runAll(Collections.singletonList(new String[] {"unchecked"}), service);
+            assertEquals(1, thrown.get(0).getExitCode());
+            assertEquals(IllegalStateException.class, thrown.get(0).getError().getClass());
+            assertNull(thrown.get(0).getMessage());
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testRunAllAsync() throws Exception {
+        final List<String[]> invocations = new ArrayList<>();
+        for(int i = 0; i < 100; i++) {
+            invocations.add(new String[] {"--value", "run-all-" + i});
+        }
+
+        // Every invocation is in flight at once on a single thread, because none of them hold it while they wait
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            final Application application = Clinic.cli(Commands.Async.class).compile();
+            final CompletableFuture<List<RunResult>> results = CompletableFuture.supplyAsync(() -> application.runAll(invocations, service));
+            for(int i = 0; i < 100; i++) {
+                while(!Commands.Async.PENDING.containsKey("run-all-" + i)) {
+                    Thread.sleep(1);
+                }
+            }
+            for(int i = 99; i >= 0; i--) {
+                Commands.Async.PENDING.get("run-all-" + i).complete(Integer.toString(i));
+            }
+
+            for(int i = 0; i < 100; i++) {
+                assertEquals(0, results.get(1, TimeUnit.SECONDS).get(i).getExitCode());
+                assertEquals(Integer.toString(i), results.get().get(i).getResult());
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testRunAllRejected() {
+        final List<String[]> invocations = new ArrayList<>();
+        for(int i = 0; i < 100; i++) {
+            invocations.add(new String[] {"basic", "--input", Integer.toString(i)});
+        }
+
+        // Every other invocation is rejected, and the batch still reports on all of them
+        final Application application = Clinic.cli(Commands.Integers.class).compile();
+        final AtomicInteger submitted = new AtomicInteger();
+        final List<RunResult> results = application.runAll(invocations, (final Runnable task) -> {
+            if(submitted.getAndIncrement() % 2 == 1) {
+                throw new RejectedExecutionException("full");
+            }
+            task.run();
+        });
+        assertEquals(100, results.size());
+        for(int i = 0; i < 100; i++) {
+            assertSame(invocations.get(i), results.get(i).getArgs());
+            if(i % 2 == 0) {
+                assertEquals(0, results.get(i).getExitCode());
+                assertEquals(i, results.get(i).getResult());
+            } else {
+                assertEquals(1, results.get(i).getExitCode());
+                assertEquals(RejectedExecutionException.class, results.get(i).getError().getClass());
+                assertNull(results.get(i).getResult());
+            }
+        }
+
+        final ExecutorService service = Executors.newFixedThreadPool(8);
+        service.shutdown();
+        for(final RunResult result : application.runAll(invocations, service)) {
+            assertEquals(RejectedExecutionException.class, result.getError().getClass());
+        }
+
+        // A throwing consumer stops the batch, but not before the invocations in flight have finished
+        final ExecutorService running = Executors.newFixedThreadPool(8);
+        try {
+            final AtomicInteger ran = new AtomicInteger();
+            final AtomicInteger started = new AtomicInteger();
+            assertThrows(IllegalStateException.class, () -> application.runAll(invocations, (final Runnable task) -> {
+                started.incrementAndGet();
+                running.execute(() -> {
+                    // Counted first, since the invocation's result is ready as soon as it runs
+                    ran.incrementAndGet();
+                    task.run();
+                });
+            }, 16, (final RunResult result) -> {
+                throw new IllegalStateException("oops");
+            }));
+            assertTrue(started.get() < invocations.size());
+            assertEquals(started.get(), ran.get());
+        } finally {
+            running.shutdown();
+        }
+    }
+
+    @Test
+    public void testRunAllWindow() {
+        final List<String[]> invocations = new ArrayList<>();
+        for(int i = 0; i < 10000; i++) {
+            invocations.add(new String[] {"basic", "--input", Integer.toString(i)});
+        }
+
+        final ExecutorService service = Executors.newFixedThreadPool(8);
+        try {
+            final Application application = Clinic.cli(Commands.Integers.class).compile();
+            final AtomicInteger submitted = new AtomicInteger();
+            final AtomicInteger delivered = new AtomicInteger();
+            final AtomicInteger maxInFlight = new AtomicInteger();
+            application.runAll(invocations, (final Runnable task) -> {
+                maxInFlight.accumulateAndGet(submitted.incrementAndGet() - delivered.get(), Math::max);
+                service.execute(task);
+            }, 16, (final RunResult result) -> {
+                assertEquals(delivered.getAndIncrement(), result.getResult());
+            });
+
+            assertEquals(10000, delivered.get());
+            assertTrue(maxInFlight.get() <= 16, "At most 16 invocations should be in flight, but " + maxInFlight.get() + " were");
+            assertThrows(IllegalArgumentException.class, () -> {
+                application.runAll(invocations, service, 0, (final RunResult result) -> {});
+            });
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        // Falls back to platform threads on runtimes without virtual threads
+        final Clinic.Builder builder = Clinic.cli(Commands.Integers.class).args(new String[] {"basic", "--input", "1"}).virtualThreads();
+        assertEquals(0, (int)builder.await().get(1, TimeUnit.SECONDS));
+
+        // ITVirtualThreads checks they're virtual on Java 21, where the multi-release JAR has the classes for them
+        final Thread thread = builder.getThread();
+        assertFalse(thread.isAlive());
+        thread.start();
+        thread.join();
+        builder.start().join();
+    }
+}
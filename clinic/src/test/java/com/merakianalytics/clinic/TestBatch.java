@@ -0,0 +1,97 @@
+package com.merakianalytics.clinic;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestBatch {
+    private static Path write(final String... lines) throws IOException {
+        final Path file = Files.createTempFile("clinic-batch", ".txt");
+        file.toFile().deleteOnExit();
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @BeforeEach
+    public void clear() {
+        Commands.Recorded.RECORDED.clear();
+    }
+
+    @Test
+    public void testBatch() throws IOException {
+        final Path file = write("# a comment", "record --value one", "", "  record --value \"two words\"", "record --value 'three'");
+        final Application application = Clinic.cli(Commands.Recorded.class).compile();
+
+        assertEquals("", TestCommon.capture(() -> application.run(Common.BATCH_OPTION, file.toString()), 0));
+        assertEquals(Arrays.asList("one", "two words", "three"), Commands.Recorded.RECORDED);
+    }
+
+    @Test
+    public void testBatchFailures() throws IOException {
+        final Path file = write("record --value one", "not-a-command", "fail --value oops", "record --value two", "record --other");
+        final Application application = Clinic.cli(Commands.Recorded.class).compile();
+
+        final String output = TestCommon.capture(() -> application.run(Common.BATCH_OPTION, file.toString()), 1);
+        assertEquals(Arrays.asList("one", "two"), Commands.Recorded.RECORDED);
+        assertTrue(output.contains("Line 2 failed: not-a-command"));
+        assertTrue(output.contains("Unrecognized command: not-a-command!"));
+        assertTrue(output.contains("Line 3 failed: fail --value oops"));
+        assertTrue(output.contains("java.lang.IllegalStateException: oops"));
+        assertTrue(output.contains("Line 5 failed: record --other"));
+        assertTrue(output.endsWith("3 of 5 commands failed, on lines 2, 3, 5" + System.lineSeparator()));
+    }
+
+    @Test
+    public void testBatchOptions() throws IOException {
+        final Application application = Clinic.cli(Commands.Recorded.class).compile();
+
+        assertTrue(TestCommon.capture(() -> application.run(Common.BATCH_OPTION), 1).contains("No batch file was provided!"));
+        assertTrue(TestCommon.capture(() -> application.run(Common.BATCH_OPTION, "--help"), 0).contains(Common.THREADS_OPTION));
+        assertTrue(TestCommon.capture(() -> application.run(Common.BATCH_OPTION, "file", Common.THREADS_OPTION, "none"), 1).contains("positive integer"));
+        assertTrue(TestCommon.capture(() -> application.run(Common.BATCH_OPTION, "file", "other"), 1).contains("Unexpected argument: other!"));
+        assertTrue(TestCommon.capture(() -> application.run(Common.BATCH_OPTION, "does-not-exist.txt"), 1).contains("Couldn't read batch file"));
+    }
+
+    @Test
+    public void testBatchStdin() {
+        TestCommon.capture("record --value one\nrecord --value two\n",
+            () -> Clinic.cli(Commands.Recorded.class).args(new String[] {Common.BATCH_OPTION, "-"}).run(), 0);
+        assertEquals(Arrays.asList("one", "two"), Commands.Recorded.RECORDED);
+    }
+
+    @Test
+    public void testBatchThreads() throws IOException {
+        final List<String> lines = new ArrayList<>();
+        for(int i = 0; i < 5000; i++) {
+            lines.add(i % 1000 == 999 ? "fail --value " + i : "record --value " + i);
+        }
+        final Path file = write(lines.toArray(new String[lines.size()]));
+        final Application application = Clinic.cli(Commands.Recorded.class).compile();
+
+        final String output = TestCommon.capture(() -> application.run(Common.BATCH_OPTION, file.toString(), Common.THREADS_OPTION, "8"), 1);
+        assertEquals(4995, Commands.Recorded.RECORDED.size());
+        assertTrue(output.endsWith("5 of 5000 commands failed, on lines 1000, 2000, 3000, 4000, 5000" + System.lineSeparator()));
+    }
+
+    @Test
+    public void testTokenize() {
+        assertArrayEquals(new String[0], Common.tokenize(""));
+        assertArrayEquals(new String[0], Common.tokenize("   "));
+        assertArrayEquals(new String[] {"command", "--option", "value"}, Common.tokenize("  command\t--option   value "));
+        assertArrayEquals(new String[] {"a b", "c d", "e f"}, Common.tokenize("'a b' \"c d\" e\\ f"));
+        assertArrayEquals(new String[] {"it's", "say \"hi\"", "back\\slash"}, Common.tokenize("it\\'s \"say \\\"hi\\\"\" 'back\\slash'"));
+        assertArrayEquals(new String[] {"", "ab"}, Common.tokenize("'' a'b'"));
+        assertArrayEquals(new String[] {"unterminated quote"}, Common.tokenize("'unterminated quote"));
+    }
+}
@@ -1,9 +1,17 @@
 package com.merakianalytics.clinic;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -13,14 +21,36 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 
 import com.merakianalytics.clinic.annotations.ExpectedResultType;
+import com.merakianalytics.clinic.exceptions.ClinicException;
 import com.merakianalytics.clinic.exceptions.ClinicGetHelpException;
 import com.merakianalytics.clinic.exceptions.ClinicParseException;
 
 public class TestCommandExecute {
+    private static void assertError(final Command command, final ParseResult.ErrorType errorType, final String option, final String argument,
+        final int position, final String... arguments) {
+        final ParseResult result = command.parse(arguments);
+        assertEquals(ParseResult.Status.ERROR, result.getStatus());
+        assertEquals(errorType, result.getErrorType());
+        assertEquals(option, result.getOption());
+        assertEquals(argument, result.getArgument());
+        assertEquals(position, result.getPosition());
+        assertNull(result.getCommand());
+
+        // Parsing reports exactly what executing throws, and the thrown exception doesn't carry a stack trace
+        final ClinicParseException thrown = assertThrows(ClinicParseException.class, () -> command.execute(arguments));
+        assertEquals(thrown.getMessage(), result.getMessage());
+        assertEquals(0, thrown.getStackTrace().length);
+        assertEquals(0, assertThrows(ClinicParseException.class, result::execute).getStackTrace().length);
+    }
+
     private static void test(final Class<?> testMethodContainer, final String[] values) {
         final Set<String> set = new HashSet<>(Arrays.asList(values));
 
@@ -87,9 +117,10 @@ public class TestCommandExecute {
             });
 
             // Missing required --one
-            assertThrows(ClinicParseException.class, () -> {
+            final ClinicParseException missing = assertThrows(ClinicParseException.class, () -> {
                 command.execute("--two");
             });
+            assertTrue(missing.getMessage().startsWith("Missing required option: --one" + System.lineSeparator()));
 
             // Requires value
             assertThrows(ClinicParseException.class, () -> {
@@ -152,6 +183,42 @@ public class TestCommandExecute {
         test(Commands.Characters.class, values);
     }
 
+    @Test
+    public void testConcurrentDefaults() throws InterruptedException, ExecutionException {
+        final ExecutorService service = Executors.newFixedThreadPool(8);
+        try {
+            for(final boolean registry : new boolean[] {true, false}) {
+                final Application application = Clinic.cli(Commands.MutatesDefaults.class).registry(registry).compile();
+                final Command command = application.getCommand("mutate");
+
+                // Every execution mutates its defaults, so sharing them would show up as changed defaults in the others
+                final List<Future<List<Object>>> futures = new ArrayList<>();
+                for(int t = 0; t < 8; t++) {
+                    futures.add(service.submit(() -> {
+                        final List<Object> results = new ArrayList<>();
+                        for(int i = 0; i < 1000; i++) {
+                            results.add(command.execute());
+                            results.add(command.execute(InvocationContext.get()));
+                            results.add(application.execute("mutate"));
+                            results.add(command.parse().execute());
+                        }
+                        return results;
+                    }));
+                }
+                for(final Future<List<Object>> future : futures) {
+                    for(final Object result : future.get()) {
+                        assertEquals("[1, 2, 3][1, 2, 3]", result);
+                    }
+                }
+
+                assertArrayEquals(new int[] {1, 2, 3}, (int[])command.getOptions()[0].getDefaultValue());
+                assertEquals(Arrays.asList(1, 2, 3), command.getOptions()[1].getDefaultValue());
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+
     @Test
     public void testDoubles() {
         final String[] values = new String[] {
@@ -164,6 +231,44 @@ public class TestCommandExecute {
         test(Commands.Doubles.class, values);
     }
 
+    @Test
+    public void testExceptions() throws NoSuchMethodException, SecurityException {
+        final Registry registry = Registry.get(Commands.Throws.class);
+        for(final Registry.Entry entry : registry.getEntries()) {
+            final Method method = Commands.Throws.class.getDeclaredMethod(entry.getMethodName(), entry.getParameterTypes());
+            for(final Command command : Arrays.asList(Command.get(null, method), Command.get(null, method, entry))) {
+                switch(method.getName()) {
+                    case "checked":
+                        final RuntimeException checked = assertThrows(RuntimeException.class, () -> {
+                            command.execute();
+                        });
+                        assertNull(checked.getMessage());
+                        assertEquals(IOException.class, checked.getCause().getClass());
+                        break;
+                    case "error":
+                        final RuntimeException error = assertThrows(RuntimeException.class, () -> {
+                            command.execute();
+                        });
+                        assertEquals(AssertionError.class, error.getCause().getClass());
+                        break;
+                    case "inaccessible":
+                        assertThrows(ClinicException.class, () -> {
+                            command.execute();
+                        });
+                        break;
+                    case "unchecked":
+                        final IllegalStateException unchecked = assertThrows(IllegalStateException.class, () -> {
+                            command.execute();
+                        });
+                        assertEquals("unchecked", unchecked.getMessage());
+                        break;
+                    default:
+                        throw new AssertionError("Unexpected command " + method.getName());
+                }
+            }
+        }
+    }
+
     @Test
     public void testFloats() {
         final String[] values = new String[] {
@@ -188,6 +293,30 @@ public class TestCommandExecute {
         test(Commands.Integers.class, values);
     }
 
+    @Test
+    public void testInvocationContext() {
+        // InvocationBenchmark.executeWithContext measures what executing with a context allocates
+        final Class<?>[] fixtures = new Class<?>[] {Commands.Booleans.class, Commands.Bytes.class, Commands.Characters.class, Commands.Doubles.class,
+            Commands.Floats.class, Commands.Integers.class, Commands.Longs.class, Commands.Shorts.class, Commands.Strings.class};
+        final String[] values = new String[] {"true", "1", "a", "1.5", "1.5", "1", "1", "1", "test"};
+
+        final InvocationContext context = InvocationContext.get();
+        for(int k = 0; k < fixtures.length; k++) {
+            final String[] arguments = new String[] {"--input", values[k]};
+            for(final Method method : fixtures[k].getDeclaredMethods()) {
+                final Command command = Command.get(null, method);
+                if(command.getOptions()[0].isMultiArgument()) {
+                    continue;
+                }
+
+                // Reusing the context doesn't leak values between executions
+                assertEquals(values[k], Objects.toString(command.execute(context, arguments)));
+                assertEquals(values[k], Objects.toString(command.execute(context, arguments)));
+                assertEquals(values[k], Objects.toString(command.execute(arguments)));
+            }
+        }
+    }
+
     @Test
     public void testLongs() {
         final String[] values = new String[] {
@@ -258,6 +387,52 @@ public class TestCommandExecute {
         }
     }
 
+    @Test
+    public void testParse() {
+        final Command command = Command.get(null, Commands.Parse.class.getDeclaredMethods()[0]);
+
+        final ParseResult success = command.parse("--one", "h", "--two", "--three", "a", "b");
+        assertTrue(success.isSuccess());
+        assertSame(command, success.getCommand());
+        assertEquals('h', success.getParameters()[0]);
+        assertEquals(true, success.getParameters()[1]);
+        assertArrayEquals(new String[] {"a", "b"}, (String[])success.getParameters()[2]);
+        assertNull(success.getMessage());
+        assertNull(success.execute());
+
+        final ParseResult help = command.parse("--one", "h", "--help");
+        assertEquals(ParseResult.Status.HELP, help.getStatus());
+        assertEquals(assertThrows(ClinicGetHelpException.class, () -> command.execute("--help")).getMessage(), help.getMessage());
+
+        // The help prompt is rendered once per command
+        assertSame(help.getMessage(), command.parse("--help").getMessage());
+
+        assertError(command, ParseResult.ErrorType.UNRECOGNIZED_OPTION, "--bad-option", null, 2, "--one", "h", "--bad-option");
+        assertError(command, ParseResult.ErrorType.UNEXPECTED_ARGUMENT, "--one", "abc", 2, "--one", "h", "abc");
+        assertError(command, ParseResult.ErrorType.UNEXPECTED_ARGUMENT, null, "not-an-option", 0, "not-an-option");
+        assertError(command, ParseResult.ErrorType.MISSING_ARGUMENT, "--one", null, 0, "--one");
+        assertError(command, ParseResult.ErrorType.MISSING_ARGUMENT, "--three", null, 3, "--one", "h", "--two", "--three");
+        assertError(command, ParseResult.ErrorType.MISSING_REQUIRED_OPTION, "--one", null, -1, "--two");
+        assertError(command, ParseResult.ErrorType.CONVERSION_FAILED, "--one", "hello", 1, "--one", "hello");
+        assertEquals(IllegalArgumentException.class, command.parse("--one", "hello").getCause().getClass());
+    }
+
+    @Test
+    public void testSerializeLazyMessage() throws IOException, ClassNotFoundException {
+        final Command command = Command.get(null, Commands.Parse.class.getDeclaredMethods()[0]);
+        final ClinicParseException thrown = assertThrows(ClinicParseException.class, () -> command.execute("--one", "h", "--bad-option"));
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(thrown);
+        }
+        try(ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final ClinicParseException read = (ClinicParseException)in.readObject();
+            assertTrue(read.getMessage().startsWith("Unrecognized commmand line option --bad-option!"));
+            assertEquals(thrown.getMessage(), read.getMessage());
+        }
+    }
+
     @Test
     public void testShorts() {
         final String[] values = new String[] {
@@ -1,8 +1,16 @@
 package com.merakianalytics.clinic;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.function.IntSupplier;
 
 public abstract class TestCommon {
     public abstract class HashCodes {
@@ -71,6 +79,28 @@ public abstract class TestCommon {
 
     public static final String NULL_STRING = "null";
 
+    public static String capture(final IntSupplier run, final int exitCode) {
+        final PrintStream out = System.out;
+        final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        try {
+            System.setOut(new PrintStream(captured, true));
+            assertEquals(exitCode, run.getAsInt());
+        } finally {
+            System.setOut(out);
+        }
+        return new String(captured.toByteArray());
+    }
+
+    public static String capture(final String input, final IntSupplier run, final int exitCode) {
+        final InputStream in = System.in;
+        try {
+            System.setIn(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+            return capture(run, exitCode);
+        } finally {
+            System.setIn(in);
+        }
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     public static Class<?> coerce(final Class<?> type) {
         if(type.isPrimitive()) {
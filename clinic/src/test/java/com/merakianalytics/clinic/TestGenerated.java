@@ -0,0 +1,165 @@
+package com.merakianalytics.clinic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+
+public class TestGenerated {
+    private static final String[][] BAD_ARGUMENTS = new String[][] {
+        {"--help"},
+        {"--bad-option"},
+        {"not-an-option"},
+        {"--input"},
+        {"--input", "--input"},
+        {"--input", "hello"},
+        {"--input", "1", "2", "--bad-option"},
+        {"--input", "'1'", "\"2\""},
+        {"--input", "'"},
+        {"--input", ""},
+        {"--input", "123456789012345678901234567890"},
+        {"--input", "1", "--help"}
+    };
+
+    private static void assertSameResult(final Command reflective, final Command generated, final String... arguments) {
+        final String message = reflective.getName() + " " + String.join(" ", arguments);
+        assertEquals(outcome(reflective, arguments), outcome(generated, arguments), message);
+    }
+
+    private static void assertSameResults(final Class<?> clazz, final String[]... argumentVectors) {
+        final Registry registry = Registry.get(clazz);
+        assertNotNull(registry, clazz.getSimpleName());
+
+        for(final Registry.Entry entry : registry.getEntries()) {
+            final Method method = getMethod(clazz, entry);
+            if(!java.lang.reflect.Modifier.isPrivate(method.getModifiers())) {
+                assertNotNull(entry.getInvoker(), entry.getName());
+            } else {
+                assertNull(entry.getInvoker(), entry.getName());
+            }
+
+            final Command reflective = Command.get(null, method);
+            final Command generated = Command.get(null, method, entry);
+            for(final String[] arguments : argumentVectors) {
+                assertSameResult(reflective, generated, arguments);
+            }
+        }
+    }
+
+    private static Method getMethod(final Class<?> clazz, final Registry.Entry entry) {
+        try {
+            return clazz.getDeclaredMethod(entry.getMethodName(), entry.getParameterTypes());
+        } catch(final NoSuchMethodException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static String[][] inputs(final String... values) {
+        final List<String[]> inputs = new ArrayList<>(Arrays.asList(BAD_ARGUMENTS));
+        for(final String value : values) {
+            inputs.add(new String[] {"--input", value});
+        }
+
+        final String[] all = new String[values.length + 1];
+        all[0] = "--input";
+        System.arraycopy(values, 0, all, 1, values.length);
+        inputs.add(all);
+        return inputs.toArray(new String[inputs.size()][]);
+    }
+
+    private static String outcome(final Command command, final String... arguments) {
+        try {
+            final Object result = command.execute(arguments);
+            return "returned " + (result != null && result.getClass().isArray() ? Arrays.deepToString(new Object[] {result}) : Objects.toString(result));
+        } catch(final RuntimeException e) {
+            return "threw " + e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
+    @Test
+    public void testBasic() {
+        assertSameResults(Commands.Basic.class, new String[0], new String[] {"--help"}, new String[] {"--bad-option"});
+        assertSameResults(Commands.WithReturn.class, new String[0], new String[] {"not-an-option"});
+    }
+
+    @Test
+    public void testDefaults() {
+        assertSameResults(Commands.Defaults.class,
+            new String[0],
+            new String[] {"--id", "7"},
+            new String[] {"--id", "7", "-c", "10"},
+            new String[] {"--id", "7", "--count", "10", "--message", "'hi there'", "--loud", "--numbers", "4", "5", "6"},
+            new String[] {"--loud", "--numbers", "4", "--id", "7", "--loud"},
+            new String[] {"--id", "7", "--loud", "true"},
+            new String[] {"--id", "7", "--numbers"},
+            new String[] {"--id", "seven"},
+            new String[] {"--count", "10"},
+            new String[] {"--id", "7", "--help"});
+    }
+
+    @Test
+    public void testMultipleArguments() {
+        final String[] arguments = new String[] {
+            "--one", "'test'", "--two", "123", "--three", "42.0", "--four", "\"TEST\"", "--five", "11", "245.5", "--six", "52", "5", "--seven", "151",
+            "6432", "--eight", "g", "9", "--nine", "111", "64", "--ten", "true", "false"
+        };
+        assertSameResults(Commands.MultipleArguments.class, arguments, new String[0], new String[] {"--two", "1", "--two", "2"},
+            new String[] {"--eight", "gg"}, new String[] {"--four"});
+    }
+
+    @Test
+    public void testParse() {
+        assertSameResults(Commands.Parse.class,
+            new String[] {"--help"},
+            new String[] {"--bad-option"},
+            new String[] {"not-an-option"},
+            new String[] {"--two"},
+            new String[] {"--one"},
+            new String[] {"--one", "hello"},
+            new String[] {"--one", "h", "abc"},
+            new String[] {"--one", "h", "--two", "abc"},
+            new String[] {"--one", "h", "--two", "--three"},
+            new String[] {"--one", "h", "--two", "--three", "a", "'b'", "--four", "4"});
+    }
+
+    @Test
+    public void testThrows() throws NoSuchMethodException {
+        final Registry.Entry entry = Registry.get(Commands.Counted.class).getEntries()[0];
+        assertNotNull(entry.getInvoker());
+        final Command command = Command.get(null, Commands.Counted.class.getMethod("fail", int.class, List.class), entry);
+
+        // A command that throws isn't run again by the reflective engine
+        for(final String[] arguments : new String[][] {{"--value", "1"}, {"--value", "2", "--values", "3", "4"}}) {
+            Commands.Counted.COUNT.set(0);
+            assertEquals(arguments[1], assertThrows(IllegalStateException.class, () -> command.execute(arguments)).getMessage());
+            assertEquals(1, Commands.Counted.COUNT.get());
+        }
+
+        // Arguments that can't be converted never reach the command
+        Commands.Counted.COUNT.set(0);
+        assertThrows(RuntimeException.class, () -> command.execute("--value", "1", "--values", "x"));
+        assertEquals(0, Commands.Counted.COUNT.get());
+    }
+
+    @Test
+    public void testTypes() {
+        assertSameResults(Commands.Booleans.class, inputs("true", "false", "yes"));
+        assertSameResults(Commands.Bytes.class, inputs("1", "2", "3", "4", "-1", "128"));
+        assertSameResults(Commands.Characters.class, inputs("a", "b", "cd"));
+        assertSameResults(Commands.Doubles.class, inputs("1.5", "2", "NaN"));
+        assertSameResults(Commands.Floats.class, inputs("1.5", "2", "Infinity"));
+        assertSameResults(Commands.Integers.class, inputs("1", "2", "3", "2147483648"));
+        assertSameResults(Commands.Longs.class, inputs("1", "2", "3", "9223372036854775808"));
+        assertSameResults(Commands.Shorts.class, inputs("1", "2", "3", "32768"));
+        assertSameResults(Commands.Strings.class, inputs("A", "B", "'C'", "\"D\""));
+        assertSameResults(Commands.ValidTypes.class, inputs("A", "B", "C", "D"));
+    }
+}
@@ -2,9 +2,11 @@ package com.merakianalytics.clinic;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.lang.reflect.Parameter;
+import java.util.Arrays;
 import java.util.Collection;
 
 import org.junit.jupiter.api.Test;
@@ -114,6 +116,31 @@ public class TestOption {
         }
     }
 
+    @Test
+    public void testLazyDefault() throws InterruptedException {
+        final Parameter[] parameters = Options.LazyDefault.class.getDeclaredMethods()[0].getParameters();
+
+        final Option bad = Option.get(null, parameters[0]);
+        assertThrows(ClinicAnnotationException.class, bad::getDefaultValue);
+        assertThrows(ClinicAnnotationException.class, bad::getDefaultValue);
+
+        final Option list = Option.get(null, parameters[1]);
+        final Object[] defaults = new Object[8];
+        final Thread[] threads = new Thread[defaults.length];
+        for(int i = 0; i < threads.length; i++) {
+            final int index = i;
+            threads[i] = new Thread(() -> defaults[index] = list.getDefaultValue());
+            threads[i].start();
+        }
+        for(final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(Arrays.asList(1, 2, 3), defaults[0]);
+        for(final Object value : defaults) {
+            assertSame(defaults[0], value);
+        }
+    }
+
     @Test
     public void testLongs() {
         for(final Parameter parameter : Options.Longs.class.getDeclaredMethods()[0].getParameters()) {
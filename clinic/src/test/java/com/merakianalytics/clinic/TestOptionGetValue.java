@@ -1,17 +1,37 @@
 package com.merakianalytics.clinic;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Parameter;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.junit.jupiter.api.Test;
 
+import com.merakianalytics.clinic.collections.DoubleList;
+import com.merakianalytics.clinic.collections.IntList;
+import com.merakianalytics.clinic.collections.IntSet;
+import com.merakianalytics.clinic.collections.LongList;
+import com.merakianalytics.clinic.collections.LongSet;
+import com.merakianalytics.clinic.exceptions.ClinicAnnotationException;
+
 public class TestOptionGetValue {
     private static void test(final Class<?> testMethodContainer, final List<?> values) {
         final String[] args = values.stream().map((final Object object) -> object == null ? null : object.toString()).toArray(String[]::new);
@@ -110,6 +130,58 @@ public class TestOptionGetValue {
         test(Options.Chars.class, values);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCollections() {
+        final Parameter[] parameters = Options.Collections.class.getDeclaredMethods()[0].getParameters();
+        final Option blockingQueue = Option.get(null, parameters[0]);
+        final Option deque = Option.get(null, parameters[1]);
+        final Option linkedList = Option.get(null, parameters[2]);
+        final Option set = Option.get(null, parameters[3]);
+        final Option sortedSet = Option.get(null, parameters[4]);
+        final Option treeSet = Option.get(null, parameters[5]);
+        final Option arrayBlockingQueue = Option.get(null, parameters[6]);
+
+        assertEquals(Arrays.asList(3, 1, 2), new ArrayList<>((Collection<Integer>)blockingQueue.getDefaultValue()));
+        final BlockingQueue<Integer> queue = (BlockingQueue<Integer>)blockingQueue.getValue("1", "2");
+        assertEquals(Arrays.asList(1, 2), new ArrayList<>(queue));
+        assertTrue(queue.offer(3));
+        assertEquals(LinkedBlockingQueue.class, queue.getClass());
+
+        // A bounded queue has room for Default.QUEUE_CAPACITY elements, or all of its arguments if there are more
+        assertEquals(Default.QUEUE_CAPACITY - 2, ((BlockingQueue<Integer>)arrayBlockingQueue.getValue("1", "2")).remainingCapacity());
+        final String[] overCapacity = new String[Default.QUEUE_CAPACITY + 1];
+        Arrays.fill(overCapacity, "1");
+        final BlockingQueue<Integer> full = (BlockingQueue<Integer>)arrayBlockingQueue.getValue(overCapacity);
+        assertEquals(Default.QUEUE_CAPACITY + 1, full.size());
+        assertEquals(0, full.remainingCapacity());
+
+        assertEquals(Arrays.asList(1, 2, 3), new ArrayList<>((Deque<Integer>)deque.getValue("1", "2", "3")));
+        assertEquals(LinkedList.class, linkedList.getValue("1").getClass());
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), set.getValue("1", "2", "1"));
+
+        assertEquals(new TreeSet<>(Arrays.asList(1, 2, 3)), sortedSet.getDefaultValue());
+        final Object sorted = sortedSet.getValue("5", "3", "4", "3", "1");
+        assertEquals(TreeSet.class, sorted.getClass());
+        assertEquals(Arrays.asList(1, 3, 4, 5), new ArrayList<>((SortedSet<Integer>)sorted));
+        assertEquals(Integer.valueOf(5), ((TreeSet<Integer>)sorted).last());
+
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>((TreeSet<String>)treeSet.getValue("c", "a", "b", "a")));
+        assertThrows(NullPointerException.class, () -> treeSet.getValue("a", null));
+
+        final String[] many = new String[5000];
+        for(int i = 0; i < many.length; i++) {
+            many[i] = Integer.toString((i * 7919) % 2500);
+        }
+        final TreeSet<Integer> large = (TreeSet<Integer>)sortedSet.getValue(many);
+        assertEquals(2500, large.size());
+        assertEquals(Integer.valueOf(0), large.first());
+        assertEquals(Integer.valueOf(2499), large.last());
+        assertTrue(large.contains(1234));
+        many[many.length - 1] = null;
+        assertThrows(NullPointerException.class, () -> sortedSet.getValue(many));
+    }
+
     @Test
     public void testDoubles() {
         final List<Double> values = Arrays.asList(new Double[] {
@@ -122,6 +194,30 @@ public class TestOptionGetValue {
         test(Options.Doubles.class, values);
     }
 
+    @Test
+    public void testFactories() {
+        final Parameter[] parameters = Options.Factories.class.getDeclaredMethods()[0].getParameters();
+        final Option color = Option.get(null, parameters[0]);
+        final Option date = Option.get(null, parameters[1]);
+        final Option duration = Option.get(null, parameters[2]);
+        final Option named = Option.get(null, parameters[3]);
+        final Option colors = Option.get(null, parameters[4]);
+        final Option dates = Option.get(null, parameters[5]);
+
+        assertEquals(Options.Factories.Color.GREEN, color.getDefaultValue());
+        assertEquals(Options.Factories.Color.RED, color.getValue("RED"));
+        assertThrows(IllegalArgumentException.class, () -> color.getValue("PURPLE"));
+
+        assertEquals(LocalDate.of(2018, 7, 4), date.getDefaultValue());
+        assertEquals(LocalDate.of(2020, 2, 29), date.getValue("2020-02-29"));
+        assertEquals(Duration.ofMinutes(5), duration.getValue("PT5M"));
+        assertEquals(Options.Factories.Named.fromString("test"), named.getValue("test"));
+
+        assertEquals(Arrays.asList(Options.Factories.Color.RED, Options.Factories.Color.BLUE), colors.getDefaultValue());
+        assertEquals(Arrays.asList(Options.Factories.Color.BLUE), colors.getValue("BLUE"));
+        assertArrayEquals(new LocalDate[] {LocalDate.of(2018, 1, 1), LocalDate.of(2019, 1, 1)}, (LocalDate[])dates.getValue("2018-01-01", "2019-01-01"));
+    }
+
     @Test
     public void testFlag() {
         for(final Parameter parameter : Options.Flag.Off.class.getDeclaredMethods()[0].getParameters()) {
@@ -175,6 +271,37 @@ public class TestOptionGetValue {
         test(Options.Longs.class, values);
     }
 
+    @Test
+    public void testPrimitiveCollections() {
+        final Parameter[] parameters = Options.PrimitiveCollections.class.getDeclaredMethods()[0].getParameters();
+        final Option ints = Option.get(null, parameters[0]);
+        final Option longs = Option.get(null, parameters[1]);
+        final Option doubles = Option.get(null, parameters[2]);
+        final Option intSet = Option.get(null, parameters[3]);
+        final Option longSet = Option.get(null, parameters[4]);
+
+        assertTrue(ints.isMultiArgument());
+        assertEquals(IntList.of(1, 2, 3), ints.getDefaultValue());
+        assertArrayEquals(new int[] {3, -1, 3}, ((IntList)ints.getValue("3", "-1", "3")).toIntArray());
+        assertThrows(NumberFormatException.class, () -> ints.getValue("3", "three"));
+
+        assertEquals(LongList.of(4L, 5L), longs.getDefaultValue());
+        assertArrayEquals(new long[] {Long.MAX_VALUE, 0L}, ((LongList)longs.getValue(Long.toString(Long.MAX_VALUE), "0")).toLongArray());
+
+        assertEquals(DoubleList.class, doubles.getValue("0.5").getClass());
+        assertArrayEquals(new double[] {0.5, -2.0}, ((DoubleList)doubles.getValue("0.5", "-2")).toDoubleArray());
+
+        final IntSet parsedInts = (IntSet)intSet.getValue("0", "7", "7", "-7");
+        assertEquals(new HashSet<>(Arrays.asList(0, 7, -7)), parsedInts);
+
+        assertEquals(new HashSet<>(Arrays.asList(6L, 7L)), longSet.getDefaultValue());
+        assertEquals(LongSet.class, longSet.getDefaultValue().getClass());
+        assertTrue(((LongSet)longSet.getValue("1", "2")).contains(2L));
+
+        final Parameter wrongType = Options.PrimitiveCollections.WrongType.class.getDeclaredMethods()[0].getParameters()[0];
+        assertThrows(ClinicAnnotationException.class, () -> Option.get(null, wrongType));
+    }
+
     @Test
     public void testShorts() {
         final List<Short> values = Arrays.asList(new Short[] {
@@ -187,6 +314,24 @@ public class TestOptionGetValue {
         test(Options.Shorts.class, values);
     }
 
+    @Test
+    public void testSortedArraySet() {
+        final SortedSet<Object> set = new Converters.SortedArraySet(new Object[] {1, 3, 5, 7, 9, null}, 0, 5);
+        assertEquals(Arrays.asList(1, 3, 5, 7, 9), new ArrayList<>(set));
+        assertEquals(Arrays.asList(1, 3), new ArrayList<>(set.headSet(5)));
+        assertEquals(Arrays.asList(5, 7, 9), new ArrayList<>(set.tailSet(4)));
+        assertEquals(Arrays.asList(3, 5), new ArrayList<>(set.subSet(3, 7)));
+        assertEquals(Arrays.asList(5), new ArrayList<>(set.subSet(2, 8).subSet(4, 6)));
+        assertEquals(Integer.valueOf(7), set.headSet(8).last());
+        assertEquals(Integer.valueOf(3), set.tailSet(2).first());
+        assertTrue(set.subSet(4, 4).isEmpty());
+        assertTrue(set.contains(7));
+        assertFalse(set.headSet(7).contains(7));
+        assertThrows(IllegalArgumentException.class, () -> set.subSet(7, 3));
+        assertThrows(NoSuchElementException.class, () -> set.headSet(0).first());
+        assertThrows(UnsupportedOperationException.class, () -> set.add(2));
+    }
+
     @Test
     public void testStrings() {
         final List<String> values = Arrays.asList(new String[] {
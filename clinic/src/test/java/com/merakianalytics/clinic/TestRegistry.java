@@ -0,0 +1,90 @@
+package com.merakianalytics.clinic;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.merakianalytics.clinic.exceptions.ClinicAnnotationException;
+
+public class TestRegistry {
+    private static void assertSameCommands(final Class<?> clazz) {
+        final Map<String, Command> reflective = Clinic.cli(clazz).registry(false).compile().getCommands().stream()
+            .collect(Collectors.toMap(Command::getName, Function.identity()));
+        final Map<String, Command> generated = Clinic.cli(clazz).compile().getCommands().stream()
+            .collect(Collectors.toMap(Command::getName, Function.identity()));
+
+        assertEquals(reflective.keySet(), generated.keySet());
+        for(final String name : reflective.keySet()) {
+            final Command one = reflective.get(name);
+            final Command two = generated.get(name);
+            assertEquals(one.getMethod(), two.getMethod());
+            assertEquals(one.getHelp(), two.getHelp());
+            assertEquals(one.isDefaultCommand(), two.isDefaultCommand());
+            assertEquals(one.getOptions().length, two.getOptions().length);
+            for(int i = 0; i < one.getOptions().length; i++) {
+                assertArrayEquals(one.getOptions()[i].getNames(), two.getOptions()[i].getNames());
+            }
+        }
+    }
+
+    @Test
+    public void testEntries() {
+        final Registry registry = Registry.get(Commands.MultipleArguments.class);
+        assertNotNull(registry);
+        assertEquals(1, registry.getEntries().length);
+
+        final Registry.Entry entry = registry.getEntries()[0];
+        assertEquals("many", entry.getName());
+        assertNull(entry.getHelp());
+        assertEquals("many", entry.getMethodName());
+        assertArrayEquals(new String[] {"--one", "--two", "--three", "--four", "--five", "--six", "--seven", "--eight", "--nine", "--ten"},
+            entry.getOptionNames());
+        assertEquals(double[].class, entry.getParameterTypes()[4]);
+    }
+
+    @Test
+    public void testGeneratedMatchesReflective() {
+        for(final Class<?> clazz : Arrays.asList(Commands.Basic.class, Commands.Booleans.class, Commands.Bytes.class, Commands.Characters.class, Commands.Defaults.class,
+            Commands.Doubles.class, Commands.Final.class, Commands.Floats.class, Commands.Integers.class, Commands.Longs.class,
+            Commands.MultipleArguments.class, Commands.Native.class, Commands.Parse.class, Commands.Shorts.class, Commands.StrictFP.class,
+            Commands.Strings.class, Commands.Synchronized.class, Commands.ValidTypes.class, Commands.WithHelp.class, Commands.WithName.class,
+            Commands.WithReturn.class)) {
+            assertNotNull(Registry.get(clazz), clazz.getSimpleName());
+            assertSameCommands(clazz);
+        }
+    }
+
+    @Test
+    public void testGeneratedStillValidates() {
+        assertNotNull(Registry.get(Commands.WithDefaultCommand.class));
+        assertThrows(ClinicAnnotationException.class, () -> {
+            Clinic.cli(Commands.WithDefaultCommand.class).compile();
+        });
+    }
+
+    @Test
+    public void testName() {
+        assertEquals("com.merakianalytics.clinic.Commands_MultipleArguments_ClinicRegistry", Registry.getName(Commands.MultipleArguments.class));
+        assertEquals("com.merakianalytics.clinic.Commands_ClinicRegistry", Registry.getName(Commands.class));
+    }
+
+    @Test
+    public void testNoRegistry() {
+        assertNull(Registry.get(Commands.class));
+
+        // Non-static @Commands can't be registered, so clinic falls back to reflection and reports them
+        assertNull(Registry.get(Commands.NonStatic.class));
+        assertThrows(ClinicAnnotationException.class, () -> {
+            Clinic.cli(Commands.NonStatic.class).compile();
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package com.merakianalytics.clinic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestShell {
+    private static final Pattern TIMING = Pattern.compile("\\(\\d+\\.\\d{3} ms\\)");
+
+    private static int count(final String output, final String substring) {
+        int count = 0;
+        for(int i = output.indexOf(substring); i >= 0; i = output.indexOf(substring, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    @BeforeEach
+    public void clear() {
+        Commands.Recorded.RECORDED.clear();
+    }
+
+    @Test
+    public void testShell() {
+        final Application application = Clinic.cli(Commands.Recorded.class).executableName("test").compile();
+
+        final String output = TestCommon.capture("record --value one\n\n# comment\nrecord --value 'two words'\n", application::shell, 0);
+        assertEquals(Arrays.asList("one", "two words"), Commands.Recorded.RECORDED);
+        // One prompt for each line and one more for the end of stdin
+        assertEquals(5, count(output, "test> "));
+        assertFalse(TIMING.matcher(output).find());
+    }
+
+    @Test
+    public void testShellExitCodes() {
+        final Application application = Clinic.cli(Commands.Recorded.class).compile();
+
+        // Failing commands are reported and the shell carries on, and its exit code is the last command's
+        final String output = TestCommon.capture("not-a-command\nfail --value oops\nrecord --value after\n", application::shell, 0);
+        assertTrue(output.contains("Unrecognized command: not-a-command!"));
+        assertTrue(output.contains("java.lang.IllegalStateException: oops"));
+        assertEquals(Arrays.asList("after"), Commands.Recorded.RECORDED);
+
+        TestCommon.capture("record --value one\nnot-a-command\n", application::shell, 1);
+        TestCommon.capture("not-a-command\n:exit\nrecord --value never\n", application::shell, 1);
+        TestCommon.capture("not-a-command\n:quit\nrecord --value never\n", application::shell, 1);
+        assertEquals(Arrays.asList("after", "one"), Commands.Recorded.RECORDED);
+    }
+
+    @Test
+    public void testShellHelp() {
+        final Application application = Clinic.cli(Commands.Recorded.class).executableName("test").compile();
+
+        final String output = TestCommon.capture(":help\n--help\nrecord --help\n:nope\n", application::shell, 0);
+        assertTrue(output.contains(":time"));
+        assertTrue(output.contains(":quit"));
+        assertTrue(output.contains("Usage:  test COMMAND"));
+        assertTrue(output.contains("Usage:  test record"));
+        assertTrue(output.contains("Unrecognized shell command: :nope!"));
+    }
+
+    @Test
+    public void testShellOptions() {
+        final Application application = Clinic.cli(Commands.Recorded.class).compile();
+
+        assertTrue(TestCommon.capture(() -> application.run(Common.SHELL_OPTION, "--help"), 0).contains(Common.TIME_OPTION));
+        assertTrue(TestCommon.capture(() -> application.run(Common.SHELL_OPTION, "other"), 1).contains("Unexpected argument: other!"));
+
+        final String output = TestCommon.capture("record --value one\n:time\nrecord --value two\n",
+            () -> Clinic.cli(Commands.Recorded.class).args(new String[] {Common.SHELL_OPTION, Common.TIME_OPTION}).run(), 0);
+        final Matcher timing = TIMING.matcher(output);
+        assertTrue(timing.find());
+        assertFalse(timing.find());
+        assertTrue(output.contains("Timing is off"));
+        assertEquals(Arrays.asList("one", "two"), Commands.Recorded.RECORDED);
+    }
+}
@@ -0,0 +1,126 @@
+package com.merakianalytics.clinic.collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TestCollections {
+    @Test
+    public void testDoubleList() {
+        final DoubleList list = DoubleList.of(1.5, Double.NaN, -0.0);
+        assertTrue(list.contains(Double.NaN));
+        assertFalse(list.contains(0.0));
+        assertEquals(2, list.indexOf(-0.0));
+        assertEquals(Arrays.asList(1.5, Double.NaN, -0.0), list);
+    }
+
+    @Test
+    public void testIntList() {
+        final Random random = new Random(0);
+        final IntList list = new IntList(0);
+        final List<Integer> expected = new ArrayList<>();
+        for(int i = 0; i < 10000; i++) {
+            final int value = random.nextInt(100);
+            switch(random.nextInt(4)) {
+                case 0:
+                case 1:
+                    list.add(value);
+                    expected.add(value);
+                    break;
+                case 2:
+                    final int index = random.nextInt(expected.size() + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                    break;
+                case 3:
+                    if(!expected.isEmpty()) {
+                        final int removed = random.nextInt(expected.size());
+                        assertEquals(expected.remove(removed), list.remove(removed));
+                    }
+                    break;
+            }
+            assertEquals(expected.contains(value), list.contains(value));
+        }
+        assertEquals(expected, list);
+        assertEquals(expected.hashCode(), list.hashCode());
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), list.toIntArray());
+
+        list.trimToSize();
+        assertEquals(expected, list);
+        assertEquals(expected.get(0).intValue(), list.setInt(0, -1));
+        assertEquals(-1, list.getInt(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(list.size()));
+        assertThrows(NullPointerException.class, () -> list.add(0, null));
+
+        final Iterator<Integer> iterator = list.iterator();
+        list.add(1);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testIntSet() {
+        final Random random = new Random(0);
+        final IntSet set = new IntSet(0);
+        final Set<Integer> expected = new HashSet<>();
+        for(int i = 0; i < 100000; i++) {
+            // A small range with some negatives and zero so probe runs collide, wrap and get removed from often
+            final int value = random.nextInt(2000) - 100;
+            if(random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+        for(int value = -100; value < 1900; value++) {
+            assertEquals(expected.contains(value), set.contains(value));
+        }
+        assertEquals(expected, set);
+        assertEquals(set, expected);
+        assertEquals(expected.hashCode(), set.hashCode());
+
+        final int[] values = set.toIntArray();
+        Arrays.sort(values);
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).sorted().toArray(), values);
+
+        assertTrue(set.removeAll(Arrays.asList(0, 1, 2)));
+        assertFalse(set.contains(0));
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.iterator().hasNext());
+    }
+
+    @Test
+    public void testLongSet() {
+        final Random random = new Random(0);
+        final LongSet set = new LongSet();
+        final Set<Long> expected = new HashSet<>();
+        for(int i = 0; i < 100000; i++) {
+            // Multiples of 2^32 so values that share their low bits still spread over the table
+            final long value = (random.nextInt(2000) - 100) * (1L << 32);
+            if(random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+        }
+        assertEquals(expected, set);
+        assertEquals(expected.size(), set.toLongArray().length);
+    }
+}